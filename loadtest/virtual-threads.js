@@ -0,0 +1,120 @@
+// Compara threads de plataforma e virtuais nos endpoints dominados por espera de JDBC.
+// Rode uma vez com SPRING_THREADS_VIRTUAL_ENABLED=false e outra com true, mesmo BASE_URL e mesma carga:
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform loadtest/virtual-threads.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual loadtest/virtual-threads.js
+// A aplicação deve rodar com o profile "dev" (sem JWT) apontando para o Postgres do docker-compose.
+// O setup() importa um veículo e cria uma venda PENDING por iteração do webhook, então cada pagamento percorre
+// paySale inteiro: UPDATEs condicionais da venda e do veículo dentro de uma transação no pool JDBC.
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = Number(__ENV.RATE || 400);
+const DURATION = __ENV.DURATION || '2m';
+const WEBHOOK_RATE = Math.max(1, Math.floor(RATE / 4));
+const PAYER_CPF = '12345678909'; // CPF do usuário fixo do profile dev
+const SALE_PRICE = 25000;
+const SEED_BATCH = 200;
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        available_vehicles: {
+            executor: 'constant-arrival-rate',
+            exec: 'availableVehicles',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        payment_webhook: {
+            executor: 'constant-arrival-rate',
+            exec: 'paymentWebhook',
+            rate: WEBHOOK_RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:available_vehicles}': ['p(99)<500'],
+        'http_req_duration{scenario:payment_webhook}': ['p(99)<500'],
+        dropped_iterations: ['count==0'],
+    },
+    tags: { mode: MODE },
+};
+
+export function setup() {
+    const sales = WEBHOOK_RATE * seconds(DURATION);
+    const run = Date.now().toString(36).toUpperCase();
+    const vins = Array.from({ length: sales }, (_, i) => `LT${run}${String(i).padStart(8, '0')}`);
+
+    const imported = http.post(
+        `${BASE_URL}/api/v1/vehicles/import`,
+        vins.map((vin) => JSON.stringify({
+            make: 'Honda', model: 'Civic', year: 2024, vin, color: 'Black', status: 'AVAILABLE', price: SALE_PRICE,
+        })).join('\n'),
+        { headers: { 'Content-Type': 'application/x-ndjson' }, timeout: '5m' },
+    );
+    if (imported.status !== 200 || imported.json('created') !== sales) {
+        fail(`vehicle import failed: ${imported.status} ${imported.body}`);
+    }
+
+    const saleIds = [];
+    for (let i = 0; i < vins.length; i += SEED_BATCH) {
+        const responses = http.batch(vins.slice(i, i + SEED_BATCH).map((vin) => ({
+            method: 'POST',
+            url: `${BASE_URL}/api/v1/sales`,
+            body: JSON.stringify({ vehicleVin: vin, salePrice: SALE_PRICE }),
+            params: { headers: { 'Content-Type': 'application/json' } },
+        })));
+        for (const res of responses) {
+            if (res.status !== 200) {
+                fail(`sale creation failed: ${res.status} ${res.body}`);
+            }
+            saleIds.push(res.json('id'));
+        }
+    }
+    return { saleIds };
+}
+
+export function availableVehicles() {
+    const res = http.get(`${BASE_URL}/api/v1/vehicles/available?limit=50`);
+    check(res, { 'available: 200': (r) => r.status === 200 });
+}
+
+// Cada iteração paga uma venda PENDING diferente, criada no setup()
+export function paymentWebhook(data) {
+    const saleId = data.saleIds[exec.scenario.iterationInTest % data.saleIds.length];
+    const res = http.post(
+        `${BASE_URL}/api/v1/sales/payment-webhook/${saleId}`,
+        JSON.stringify({ success: true, payerCpf: PAYER_CPF }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    check(res, { 'webhook: 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/results-${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n[${MODE}] available p99=${p99(data, 'available_vehicles')}ms webhook p99=${p99(data, 'payment_webhook')}ms `
+            + `dropped=${data.metrics.dropped_iterations ? data.metrics.dropped_iterations.values.count : 0}\n`,
+    };
+}
+
+function p99(data, scenario) {
+    const metric = data.metrics[`http_req_duration{scenario:${scenario}}`];
+    return metric ? metric.values['p(99)'].toFixed(1) : 'n/a';
+}
+
+function seconds(duration) {
+    const match = /^(\d+)(s|m|h)$/.exec(duration);
+    if (!match) {
+        fail(`DURATION must look like 90s, 2m or 1h: ${duration}`);
+    }
+    return Number(match[1]) * { s: 1, m: 60, h: 3600 }[match[2]];
+}
@@ -0,0 +1,63 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+    static final String[] VALID_CPFS = {"12345678909", "529.982.247-25", "111.444.777-35", "98765432100"};
+    static final String[] INVALID_CPFS = {"12345678900", "111.111.111-11", "1234567890", "abc.def.ghi-jk"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static Vehicle vehicle(int i) {
+        return new Vehicle(
+                UUID.randomUUID(),
+                "Honda",
+                "Civic",
+                2020 + i % 5,
+                String.format("1HGBH41JXMN%06d", i),
+                "Black",
+                i % 3 == 0 ? VehicleStatus.SOLD : VehicleStatus.AVAILABLE,
+                new BigDecimal("25000.00").add(BigDecimal.valueOf(i))
+        );
+    }
+
+    static SaleOrder saleOrder(long i) {
+        return new SaleOrder(
+                i,
+                "John Doe",
+                new CPF(VALID_CPFS[(int) (i % VALID_CPFS.length)]),
+                String.format("1HGBH41JXMN%06d", i),
+                25000.0 + i,
+                UUID.randomUUID(),
+                i % 2 == 0 ? SaleStatus.COMPLETED : SaleStatus.PENDING,
+                LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(i)
+        );
+    }
+
+    static List<Vehicle> vehicles(int size) {
+        List<Vehicle> vehicles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            vehicles.add(vehicle(i));
+        }
+        return vehicles;
+    }
+
+    static List<SaleOrder> saleOrders(int size) {
+        List<SaleOrder> saleOrders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            saleOrders.add(saleOrder(i));
+        }
+        return saleOrders;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CPFBenchmark {
+
+    private int index;
+
+    @Benchmark
+    public CPF constructValid() {
+        return new CPF(BenchmarkFixtures.VALID_CPFS[index++ & 3]);
+    }
+
+    @Benchmark
+    public Object constructInvalid() {
+        try {
+            return new CPF(BenchmarkFixtures.INVALID_CPFS[index++ & 3]);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.config.JacksonConfig;
+import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<Vehicle> vehicles;
+    private List<SaleOrder> saleOrders;
+
+    @Setup
+    public void setUp() {
+        writer = new JacksonConfig().objectMapper().writer();
+        vehicles = BenchmarkFixtures.vehicles(size);
+        saleOrders = BenchmarkFixtures.saleOrders(size);
+    }
+
+    @Benchmark
+    public byte[] vehicles() throws JsonProcessingException {
+        return writer.writeValueAsBytes(vehicles);
+    }
+
+    @Benchmark
+    public byte[] saleOrders() throws JsonProcessingException {
+        return writer.writeValueAsBytes(saleOrders);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.mapper.SaleMapper;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.mapper.VehicleMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final VehicleMapper vehicleMapper = new VehicleMapper();
+    private final SaleMapper saleMapper = new SaleMapper();
+
+    private Vehicle vehicle;
+    private SaleOrder saleOrder;
+
+    @Setup
+    public void setUp() {
+        vehicle = BenchmarkFixtures.vehicle(1);
+        saleOrder = BenchmarkFixtures.saleOrder(1);
+    }
+
+    @Benchmark
+    public Vehicle vehicleRoundTrip() {
+        return vehicleMapper.mapToDomain(vehicleMapper.mapToEntity(vehicle));
+    }
+
+    @Benchmark
+    public SaleOrder saleRoundTrip() {
+        return saleMapper.mapToDomain(saleMapper.mapToEntity(saleOrder));
+    }
+}
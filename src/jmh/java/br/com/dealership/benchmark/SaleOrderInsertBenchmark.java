@@ -0,0 +1,143 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.sale.adapter.database.converters.CPFConverter;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaleOrderInsertBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"identity", "pooled"})
+    private String mapping;
+
+    private SessionFactory sessionFactory;
+    private Class<?> entityType;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(CPFConverter.class)
+                .addAnnotatedClass(IdentitySaleOrder.class)
+                .addAnnotatedClass(PooledSaleOrder.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/dealership_db"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.jdbc.user", "postgres"))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.jdbc.password", "postgres"))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty("hibernate.connection.reWriteBatchedInserts", "true")
+                .buildSessionFactory();
+        entityType = mapping.equals("identity") ? IdentitySaleOrder.class : PooledSaleOrder.class;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session ->
+                session.createMutationQuery("DELETE FROM " + entityType.getSimpleName()).executeUpdate());
+    }
+
+    @Benchmark
+    public int insert100kSaleOrders() {
+        CPF cpf = new CPF("12345678909");
+        UUID vehicleId = UUID.randomUUID();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(BATCH_SIZE);
+            session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                session.insert(mapping.equals("identity")
+                        ? new IdentitySaleOrder(cpf, i, vehicleId)
+                        : new PooledSaleOrder(cpf, i, vehicleId));
+            }
+            session.getTransaction().commit();
+        }
+        return ROWS;
+    }
+
+    @MappedSuperclass
+    public abstract static class BenchmarkSaleOrder {
+        @Column(name = "customer_name", nullable = false)
+        private String customerName;
+
+        @Column(name = "customer_cpf", nullable = false)
+        @Convert(converter = CPFConverter.class)
+        private CPF customerCpf;
+
+        @Column(name = "vehicle_vin", nullable = false)
+        private String vehicleVin;
+
+        @Column(name = "sale_price", nullable = false)
+        private Double salePrice;
+
+        @Column(name = "vehicle_id", nullable = false)
+        private UUID vehicleId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false)
+        private SaleStatus status;
+
+        protected BenchmarkSaleOrder() {
+        }
+
+        protected BenchmarkSaleOrder(CPF customerCpf, int i, UUID vehicleId) {
+            this.customerName = "John Doe";
+            this.customerCpf = customerCpf;
+            this.vehicleVin = String.format("1HGBH41JXMN%06d", i);
+            this.salePrice = 25000.0 + i;
+            this.vehicleId = vehicleId;
+            this.status = SaleStatus.PENDING;
+        }
+    }
+
+    @Entity(name = "IdentitySaleOrder")
+    @Table(name = "benchmark_sale_orders_identity")
+    public static class IdentitySaleOrder extends BenchmarkSaleOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        protected IdentitySaleOrder() {
+        }
+
+        IdentitySaleOrder(CPF customerCpf, int i, UUID vehicleId) {
+            super(customerCpf, i, vehicleId);
+        }
+    }
+
+    @Entity(name = "PooledSaleOrder")
+    @Table(name = "benchmark_sale_orders_pooled")
+    public static class PooledSaleOrder extends BenchmarkSaleOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_sale_orders_seq")
+        @SequenceGenerator(name = "benchmark_sale_orders_seq", sequenceName = "benchmark_sale_orders_seq", allocationSize = 50)
+        private Long id;
+
+        protected PooledSaleOrder() {
+        }
+
+        PooledSaleOrder(CPF customerCpf, int i, UUID vehicleId) {
+            super(customerCpf, i, vehicleId);
+        }
+    }
+}
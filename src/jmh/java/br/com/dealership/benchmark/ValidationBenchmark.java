@@ -0,0 +1,37 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private Vehicle vehicle;
+    private SaleOrder saleOrder;
+
+    @Setup
+    public void setUp() {
+        vehicle = BenchmarkFixtures.vehicle(1);
+        saleOrder = BenchmarkFixtures.saleOrder(1);
+    }
+
+    @Benchmark
+    public Vehicle vehicleValidate() {
+        vehicle.validate();
+        return vehicle;
+    }
+
+    @Benchmark
+    public SaleOrder saleOrderValidate() {
+        saleOrder.validate();
+        return saleOrder;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.dealership.benchmark;
+
+import br.com.dealership.modules.vehicle.adapter.database.models.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class VehicleIdInsertBenchmark {
+    private static final String TABLE = "benchmark_vehicles";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"v4", "v7"})
+    private String uuidVersion;
+
+    @Param({"3000000"})
+    private int rows;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.jdbc.user", "postgres"));
+        properties.setProperty("password", System.getProperty("benchmark.jdbc.password", "postgres"));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/dealership_db"), properties);
+        connection.setAutoCommit(false);
+
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        ids = uuidVersion.equals("v7") ? generator::next : UUID::randomUUID;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("""
+                    CREATE TABLE %s (
+                        id     uuid PRIMARY KEY,
+                        make   varchar(255),
+                        model  varchar(255),
+                        year   integer      NOT NULL,
+                        vin    varchar(255) NOT NULL,
+                        color  varchar(255),
+                        status varchar(255),
+                        price  numeric(38, 2)
+                    )
+                    """.formatted(TABLE));
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT pg_relation_size('%1$s_pkey') AS index_bytes, pg_relation_size('%1$s') AS table_bytes
+                     """.formatted(TABLE))) {
+            rs.next();
+            System.out.printf("%n[%s] %,d rows: primary key %,d KiB, heap %,d KiB%n",
+                    uuidVersion, rows, rs.getLong("index_bytes") / 1024, rs.getLong("table_bytes") / 1024);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertVehicles() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (id, make, model, year, vin, color, status, price) VALUES (?, 'Honda', 'Civic', ?, ?, 'Black', 'AVAILABLE', ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setInt(2, 2020 + i % 5);
+                insert.setString(3, String.format("1HGBH41JX%08d", i));
+                insert.setBigDecimal(4, BigDecimal.valueOf(25_000 + i % 50_000));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return rows;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.dealership.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${dealership.virtual-threads.pinned-threshold:20ms}") Duration pinnedThreshold) {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, pinnedThreshold);
+        monitor.start();
+        return monitor;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.dealership.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+    public static final String PINNED_METRIC = "dealership.threads.virtual.pinned";
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder(PINNED_METRIC)
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> record(event.getDuration(), topFrame(event.getStackTrace())));
+        stream.startAsync();
+    }
+
+    void record(Duration duration, String frame) {
+        pinned.record(duration);
+        log.debug("Virtual thread pinned for {} ms at {}", duration.toMillis(), frame);
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+
+        RecordedFrame frame = frames.getFirst();
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.dealership.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out lazy connections: the physical connection is only borrowed from the pool at the first statement, so a
+ * transaction answered from a cache never holds one. Borrow and hold times are published as {@code hikaricp.*}.
+ * Because the connection is fetched after the transaction has flagged it read-only, read-only transactions can be
+ * routed to the read replicas when {@link ReadReplicaConfig} is active.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(MeterRegistry meterRegistry,
+                                              @Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username:}") String username,
+                                              @Value("${spring.datasource.password:}") String password,
+                                              @Value("${spring.datasource.driver-class-name:}") String driverClassName) {
+        return pool("primary", meterRegistry, url, username, password, driverClassName);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ObjectProvider<ReadReplicas> readReplicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        readReplicas.ifAvailable(replicas -> dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicas)));
+        return dataSource;
+    }
+
+    static HikariDataSource pool(String name, MeterRegistry meterRegistry, String url, String username, String password,
+                                 String driverClassName) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        if (!driverClassName.isBlank()) {
+            pool.setDriverClassName(driverClassName);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.dealership.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread's read-only transactions as needing the primary, for reads that must not see replication
+ * lag. Without read replicas every read already goes to the primary and this has no effect.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static boolean isRequired() {
+        return Boolean.TRUE.equals(REQUIRED.get());
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        Boolean previous = REQUIRED.get();
+        REQUIRED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(Runnable reads) {
+        call(() -> {
+            reads.run();
+            return null;
+        });
+    }
+
+    static Boolean require(boolean required) {
+        Boolean previous = REQUIRED.get();
+        REQUIRED.set(required || Boolean.TRUE.equals(previous));
+        return previous;
+    }
+
+    static void restore(Boolean previous) {
+        if (previous == null) {
+            REQUIRED.remove();
+        } else {
+            REQUIRED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.dealership.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puts the read replicas behind the read-only connections of {@link DataSourceConfig}, so the choice between replica
+ * and primary follows {@code @Transactional(readOnly = true)}. Also schedules the lag checks and keeps recent writers
+ * on the primary.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "dealership.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+    private final ObjectProvider<ReadReplicas> readReplicas;
+
+    public ReadReplicaConfig(ObjectProvider<ReadReplicas> readReplicas) {
+        this.readReplicas = readReplicas;
+    }
+
+    @Bean
+    public ReadReplicas readReplicas(MeterRegistry meterRegistry,
+                                     @Value("${dealership.read-replicas.urls:}") List<String> urls,
+                                     @Value("${dealership.read-replicas.username:${spring.datasource.username:}}") String username,
+                                     @Value("${dealership.read-replicas.password:${spring.datasource.password:}}") String password,
+                                     @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+                                     @Value("${dealership.read-replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                     @Value("${dealership.read-replicas.connection-timeout:2s}") Duration connectionTimeout,
+                                     @Value("${dealership.read-replicas.max-lag:2s}") Duration maxLag,
+                                     @Value("${dealership.read-replicas.lag-query}") String lagQuery) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("dealership.read-replicas.urls must list at least one replica when read replicas are enabled");
+        }
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = DataSourceConfig.pool("replica-" + i, meterRegistry, urls.get(i).trim(), username, password, driverClassName);
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setConnectionTimeout(connectionTimeout.toMillis());
+            pools.put(pool.getPoolName(), pool);
+        }
+
+        ReadReplicas replicas = new ReadReplicas(pools, lagQuery, maxLag);
+        replicas.bindTo(meterRegistry);
+        return replicas;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${dealership.read-replicas.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+
+    @Scheduled(fixedDelayString = "${dealership.read-replicas.check-interval:1s}")
+    public void refreshReplicaLag() {
+        readReplicas.getObject().refresh();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.dealership.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The replica pools and their last measured replication lag. A replica only takes reads while its lag is at most
+ * {@code maxLag}; one that cannot be reached or lags further is skipped until a later {@link #refresh()} sees it catch
+ * up. Nothing is eligible before the first refresh, so reads start on the primary.
+ */
+public class ReadReplicas implements AutoCloseable {
+    public static final String LAG_METRIC = "dealership.datasource.replica.lag";
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicas.class);
+
+    private final Map<String, DataSource> dataSources;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> eligible = List.of();
+
+    public ReadReplicas(Map<String, ? extends DataSource> dataSources, String lagQuery, Duration maxLag) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+
+        this.dataSources = new LinkedHashMap<>(dataSources);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.dataSources.keySet().forEach(name -> lagSeconds.put(name, Double.NaN));
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        dataSources.keySet().forEach(name -> Gauge.builder(LAG_METRIC, lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                .description("Replication lag of a read replica in seconds; NaN while unreachable")
+                .tag("replica", name)
+                .register(registry));
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return dataSources;
+    }
+
+    public List<String> eligible() {
+        return eligible;
+    }
+
+    public void refresh() {
+        List<String> caughtUp = new ArrayList<>();
+        dataSources.forEach((name, dataSource) -> {
+            double lag = measureLag(name, dataSource);
+            lagSeconds.put(name, lag);
+            if (lag <= maxLagSeconds) {
+                caughtUp.add(name);
+            }
+        });
+        eligible = List.copyOf(caughtUp);
+    }
+
+    private double measureLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            double lag = result.next() ? result.getDouble(1) : Double.NaN;
+            return result.wasNull() ? Double.NaN : lag;
+        } catch (SQLException e) {
+            log.warn("Could not measure replication lag of replica {}: {}", name, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.dealership.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for {@code window} after a write request, so it sees its own writes while the
+ * replicas catch up. Clients are told apart by the authenticated principal, or by remote address when anonymous. The
+ * record is local to each instance.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final long MAXIMUM_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CLIENTS)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+        // recorded before the write runs, so a read racing the response already lands on the primary
+        if (!READ_METHODS.contains(request.getMethod())) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+
+        Boolean previous = PrimaryReads.require(recentWriters.getIfPresent(client) != null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryReads.restore(previous);
+        }
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "principal:" + principal.getName() : "address:" + request.getRemoteAddr();
+    }
+}
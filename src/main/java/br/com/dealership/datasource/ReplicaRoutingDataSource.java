@@ -0,0 +1,43 @@
+package br.com.dealership.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Source of read-only connections: round-robins over the replicas that are currently caught up, and falls back to the
+ * primary when none is, or when the current thread requires {@link PrimaryReads}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final ReadReplicas replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReadReplicas replicas) {
+        this.replicas = replicas;
+        Map<Object, Object> targets = new HashMap<>(replicas.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PrimaryReads.isRequired()) {
+            return PRIMARY;
+        }
+
+        List<String> eligible = replicas.eligible();
+        if (eligible.isEmpty()) {
+            return PRIMARY;
+        }
+        return eligible.get(Math.floorMod(next.getAndIncrement(), eligible.size()));
+    }
+}
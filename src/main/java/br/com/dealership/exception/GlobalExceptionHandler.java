@@ -1,5 +1,6 @@
 package br.com.dealership.exception;
 
+import br.com.dealership.idempotency.IdempotencyKeyConflictException;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
@@ -118,6 +119,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(
+            IdempotencyKeyConflictException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex,
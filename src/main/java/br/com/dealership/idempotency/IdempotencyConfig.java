@@ -0,0 +1,30 @@
+package br.com.dealership.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyRecordRepository repository,
+                                             PlatformTransactionManager transactionManager,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${dealership.idempotency.maximum-size:10000}") long maximumSize,
+                                             @Value("${dealership.idempotency.ttl:24h}") Duration ttl,
+                                             @Value("${dealership.idempotency.reservation-timeout:30s}") Duration reservationTimeout) {
+        return new IdempotencyStore(repository, new TransactionTemplate(transactionManager), objectMapper, meterRegistry,
+                maximumSize, ttl, reservationTimeout, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.dealership.idempotency;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.dealership.idempotency;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecordEntity implements Persistable<String> {
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "reserved_until")
+    private LocalDateTime reservedUntil;
+
+    @Transient
+    private boolean isNew = true;
+
+    public IdempotencyRecordEntity() {
+    }
+
+    public IdempotencyRecordEntity(String key, String fingerprint, LocalDateTime createdAt, LocalDateTime reservedUntil) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+        this.reservedUntil = reservedUntil;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void complete(int responseStatus, String responseBody) {
+        this.responseStatus = responseStatus;
+        this.responseBody = responseBody;
+        this.reservedUntil = null;
+    }
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+
+    public boolean isAbandoned(LocalDateTime now) {
+        return !isCompleted() && (reservedUntil == null || reservedUntil.isBefore(now));
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getReservedUntil() {
+        return reservedUntil;
+    }
+}
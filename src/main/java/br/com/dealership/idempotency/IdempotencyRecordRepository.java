@@ -0,0 +1,51 @@
+package br.com.dealership.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecordEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Takes over a reservation whose holder died or gave up; only one caller can match the expired lease
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecordEntity r
+            SET r.fingerprint = :fingerprint, r.createdAt = :now, r.reservedUntil = :reservedUntil
+            WHERE r.key = :key AND r.responseStatus IS NULL AND (r.reservedUntil IS NULL OR r.reservedUntil < :now)
+            """)
+    int reclaimAbandoned(@Param("key") String key,
+                         @Param("fingerprint") String fingerprint,
+                         @Param("now") LocalDateTime now,
+                         @Param("reservedUntil") LocalDateTime reservedUntil);
+
+    // Runs in the action's transaction; 0 rows means the reservation was reclaimed and the action must roll back
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecordEntity r
+            SET r.responseStatus = :responseStatus, r.responseBody = :responseBody, r.reservedUntil = NULL
+            WHERE r.key = :key AND r.reservedUntil = :reservedUntil
+            """)
+    int completeReservation(@Param("key") String key,
+                            @Param("reservedUntil") LocalDateTime reservedUntil,
+                            @Param("responseStatus") int responseStatus,
+                            @Param("responseBody") String responseBody);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.key = :key AND r.reservedUntil = :reservedUntil")
+    int releaseReservation(@Param("key") String key, @Param("reservedUntil") LocalDateTime reservedUntil);
+}
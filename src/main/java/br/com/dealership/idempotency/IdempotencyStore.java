@@ -0,0 +1,198 @@
+package br.com.dealership.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+public class IdempotencyStore {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String CACHE_NAME = "idempotency.responses";
+    public static final String REQUESTS_METRIC = "dealership.idempotency.requests";
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionOperations transactions;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, IdempotencyRecordEntity> responses;
+    private final Duration ttl;
+    private final Duration reservationTimeout;
+    private final Clock clock;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, TransactionOperations transactions, ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry, long maximumSize, Duration ttl, Duration reservationTimeout, Clock clock) {
+        this.repository = repository;
+        this.transactions = transactions;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.reservationTimeout = reservationTimeout;
+        this.clock = clock;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    public ResponseEntity<?> execute(String operation, String scope, String key, Object request, Supplier<? extends ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String id = operation + ":" + scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        LocalDateTime now = now();
+        IdempotencyRecordEntity existing = find(id);
+        if (existing != null && !existing.isAbandoned(now)) {
+            return replay(operation, existing, fingerprint);
+        }
+
+        LocalDateTime reservedUntil = now.plus(reservationTimeout);
+        IdempotencyRecordEntity record = new IdempotencyRecordEntity(id, fingerprint, now, reservedUntil);
+        if (existing == null) {
+            reserve(operation, record);
+        } else {
+            reclaim(operation, record);
+        }
+
+        // The response is recorded in the action's own transaction, so a committed action always has a stored response
+        ResponseEntity<?> response;
+        try {
+            response = transactions.execute(status -> {
+                ResponseEntity<?> result = action.get();
+                String body = serialize(result.getBody());
+                if (repository.completeReservation(id, reservedUntil, result.getStatusCode().value(), body) == 0) {
+                    throw new IdempotencyKeyConflictException("The reservation for this " + HEADER + " expired before the request completed");
+                }
+                record.complete(result.getStatusCode().value(), body);
+                return result;
+            });
+        } catch (RuntimeException e) {
+            repository.releaseReservation(id, reservedUntil);
+            throw e;
+        }
+
+        responses.put(id, record);
+        count(operation, "miss");
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${dealership.idempotency.purge-interval:1h}",
+            initialDelayString = "${dealership.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        repository.deleteCreatedBefore(now().minus(ttl));
+    }
+
+    private IdempotencyRecordEntity find(String id) {
+        IdempotencyRecordEntity cached = responses.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        IdempotencyRecordEntity stored = repository.findById(id).orElse(null);
+        if (stored == null) {
+            return null;
+        }
+
+        if (stored.getCreatedAt().isBefore(now().minus(ttl))) {
+            repository.delete(stored);
+            return null;
+        }
+
+        if (stored.isCompleted()) {
+            responses.put(id, stored);
+        }
+        return stored;
+    }
+
+    private void reserve(String operation, IdempotencyRecordEntity record) {
+        try {
+            repository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            throw inProgress(operation);
+        }
+    }
+
+    private void reclaim(String operation, IdempotencyRecordEntity record) {
+        if (repository.reclaimAbandoned(record.getKey(), record.getFingerprint(), record.getCreatedAt(), record.getReservedUntil()) == 0) {
+            throw inProgress(operation);
+        }
+    }
+
+    private IdempotencyKeyConflictException inProgress(String operation) {
+        count(operation, "conflict");
+        return new IdempotencyKeyConflictException("A request with this " + HEADER + " is already being processed");
+    }
+
+    private ResponseEntity<?> replay(String operation, IdempotencyRecordEntity record, String fingerprint) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            count(operation, "conflict");
+            throw new IllegalArgumentException(HEADER + " was already used with a different request");
+        }
+
+        if (!record.isCompleted()) {
+            throw inProgress(operation);
+        }
+
+        count(operation, "hit");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.getResponseStatus());
+        if (record.getResponseBody() == null) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(record.getResponseBody());
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String serialize(Object body) {
+        if (body == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    // Truncated to the column precision, so the reservation can be matched by equality after a round trip
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void count(String operation, String outcome) {
+        meterRegistry.counter(REQUESTS_METRIC, "operation", operation, "outcome", outcome).increment();
+    }
+}
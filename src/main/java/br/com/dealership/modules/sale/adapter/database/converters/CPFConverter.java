@@ -5,21 +5,21 @@ import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
 @Converter(autoApply = true)
-public class CPFConverter implements AttributeConverter<CPF, String> {
+public class CPFConverter implements AttributeConverter<CPF, Long> {
 
     @Override
-    public String convertToDatabaseColumn(CPF cpf) {
+    public Long convertToDatabaseColumn(CPF cpf) {
         if (cpf == null) {
             return null;
         }
-        return cpf.getValue();
+        return cpf.toLong();
     }
 
     @Override
-    public CPF convertToEntityAttribute(String value) {
-        if (value == null || value.isBlank()) {
+    public CPF convertToEntityAttribute(Long value) {
+        if (value == null) {
             return null;
         }
         return new CPF(value);
     }
-}
\ No newline at end of file
+}
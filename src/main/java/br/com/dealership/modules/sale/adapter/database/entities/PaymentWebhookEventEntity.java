@@ -0,0 +1,129 @@
+package br.com.dealership.modules.sale.adapter.database.entities;
+
+import br.com.dealership.modules.sale.adapter.database.converters.CPFConverter;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus;
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payment_webhook_events")
+public class PaymentWebhookEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sale_id", nullable = false)
+    private Long saleId;
+
+    @Column(name = "payment_success", nullable = false)
+    private boolean paymentSuccess;
+
+    @Column(name = "payer_cpf", nullable = false)
+    @Convert(converter = CPFConverter.class)
+    private CPF payerCpf;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentWebhookStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    public PaymentWebhookEventEntity() {
+    }
+
+    public PaymentWebhookEventEntity(Long id, Long saleId, boolean paymentSuccess, CPF payerCpf, PaymentWebhookStatus status, int attempts, String lastError, LocalDateTime receivedAt, LocalDateTime availableAt) {
+        this.id = id;
+        this.saleId = saleId;
+        this.paymentSuccess = paymentSuccess;
+        this.payerCpf = payerCpf;
+        this.status = status;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.receivedAt = receivedAt;
+        this.availableAt = availableAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSaleId() {
+        return saleId;
+    }
+
+    public void setSaleId(Long saleId) {
+        this.saleId = saleId;
+    }
+
+    public boolean isPaymentSuccess() {
+        return paymentSuccess;
+    }
+
+    public void setPaymentSuccess(boolean paymentSuccess) {
+        this.paymentSuccess = paymentSuccess;
+    }
+
+    public CPF getPayerCpf() {
+        return payerCpf;
+    }
+
+    public void setPayerCpf(CPF payerCpf) {
+        this.payerCpf = payerCpf;
+    }
+
+    public PaymentWebhookStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PaymentWebhookStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+}
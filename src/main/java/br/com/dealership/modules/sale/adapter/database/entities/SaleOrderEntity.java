@@ -12,7 +12,7 @@ import java.util.UUID;
 @Table(name = "sale_orders")
 public class SaleOrderEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SaleOrderId
     private Long id;
 
     @Column(name = "customer_name", nullable = false)
@@ -38,6 +38,9 @@ public class SaleOrderEntity {
     @Column(name = "sale_date")
     private LocalDateTime saleDate;
 
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public SaleOrderEntity() {
     }
 
@@ -120,4 +123,12 @@ public class SaleOrderEntity {
     public void setSaleDate(LocalDateTime saleDate) {
         this.saleDate = saleDate;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,34 @@
+package br.com.dealership.modules.sale.adapter.database.entities;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.util.Properties;
+
+/**
+ * Pooled generator for {@code sale_orders_seq} whose allocation size comes from the
+ * {@value #ALLOCATION_SIZE_SETTING} setting instead of the mapping. The pooled optimizer assumes the sequence
+ * increments by exactly that many ids per {@code nextval}, so Hibernate refuses to start when the two differ.
+ */
+public class SaleOrderIdGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE_SETTING = "dealership.sale-orders.id-allocation-size";
+    static final String SEQUENCE_NAME = "sale_orders_seq";
+    static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        int allocationSize = creationContext.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + " must be positive but was " + allocationSize);
+        }
+
+        parameters.put(SEQUENCE_PARAM, SEQUENCE_NAME);
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        super.configure(creationContext, parameters);
+    }
+}
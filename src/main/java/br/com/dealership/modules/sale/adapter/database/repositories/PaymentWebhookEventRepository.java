@@ -0,0 +1,49 @@
+package br.com.dealership.modules.sale.adapter.database.repositories;
+
+import br.com.dealership.modules.sale.adapter.database.entities.PaymentWebhookEventEntity;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEventEntity, Long> {
+
+    // Only the oldest unfinished event of each sale is claimable, which keeps per-sale ordering across workers.
+    // A lock timeout of -2 asks Hibernate for SKIP LOCKED so concurrent replicas claim disjoint batches.
+    // FAILED is a literal so the partial index on unfinished events also applies to generic (prepared) plans.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT e FROM PaymentWebhookEventEntity e
+            WHERE e.status <> br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus.FAILED
+              AND e.availableAt <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM PaymentWebhookEventEntity p
+                  WHERE p.saleId = e.saleId AND p.id < e.id
+                    AND p.status <> br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus.FAILED
+              )
+            ORDER BY e.id ASC
+            """)
+    List<PaymentWebhookEventEntity> findClaimable(@Param("now") LocalDateTime now,
+                                                  Limit limit);
+
+    @Modifying
+    @Query("""
+            UPDATE PaymentWebhookEventEntity e
+            SET e.status = :status, e.availableAt = :availableAt, e.lastError = :lastError
+            WHERE e.id = :id
+            """)
+    int updateOutcome(@Param("id") Long id,
+                      @Param("status") PaymentWebhookStatus status,
+                      @Param("availableAt") LocalDateTime availableAt,
+                      @Param("lastError") String lastError);
+}
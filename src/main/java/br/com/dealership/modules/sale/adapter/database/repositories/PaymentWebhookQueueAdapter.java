@@ -0,0 +1,77 @@
+package br.com.dealership.modules.sale.adapter.database.repositories;
+
+import br.com.dealership.modules.sale.adapter.database.entities.PaymentWebhookEventEntity;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import br.com.dealership.modules.sale.mapper.PaymentWebhookEventMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class PaymentWebhookQueueAdapter implements PaymentWebhookQueuePort {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final PaymentWebhookEventRepository repository;
+    private final PaymentWebhookEventMapper mapper;
+
+    public PaymentWebhookQueueAdapter(PaymentWebhookEventRepository repository, PaymentWebhookEventMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public PaymentWebhookEvent enqueue(PaymentWebhookEvent event) {
+        return mapper.mapToDomain(repository.save(mapper.mapToEntity(event)));
+    }
+
+    @Override
+    @Transactional
+    public List<PaymentWebhookEvent> claimBatch(int batchSize, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentWebhookEventEntity> claimed = repository.findClaimable(
+                now,
+                Limit.of(batchSize)
+        );
+
+        for (PaymentWebhookEventEntity entity : claimed) {
+            entity.setStatus(PaymentWebhookStatus.PROCESSING);
+            entity.setAttempts(entity.getAttempts() + 1);
+            entity.setAvailableAt(now.plus(lease));
+        }
+
+        return claimed.stream()
+                .map(mapper::mapToDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void acknowledge(Long id) {
+        repository.deleteById(id);
+    }
+
+    @Override
+    @Transactional
+    public void retryAt(Long id, LocalDateTime availableAt, String error) {
+        repository.updateOutcome(id, PaymentWebhookStatus.PENDING, availableAt, truncate(error));
+    }
+
+    @Override
+    @Transactional
+    public void deadLetter(Long id, String error) {
+        repository.updateOutcome(id, PaymentWebhookStatus.FAILED, LocalDateTime.now(), truncate(error));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
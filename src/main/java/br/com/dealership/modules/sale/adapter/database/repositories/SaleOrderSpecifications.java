@@ -0,0 +1,58 @@
+package br.com.dealership.modules.sale.adapter.database.repositories;
+
+import br.com.dealership.modules.sale.adapter.database.entities.SaleOrderEntity;
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SaleOrderSpecifications {
+    public static final Sort KEYSET_ORDER = Sort.by(
+            Sort.Order.asc("saleDate").nullsLast(),
+            Sort.Order.asc("id")
+    );
+
+    private SaleOrderSpecifications() {
+    }
+
+    public static Specification<SaleOrderEntity> matching(SaleFilter filter, SaleCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDateTime> saleDate = root.get("saleDate");
+            Path<Long> id = root.get("id");
+
+            if (filter.customerCpf() != null) {
+                predicates.add(cb.equal(root.get("customerCpf"), filter.customerCpf()));
+            }
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+            }
+            if (filter.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(saleDate, filter.from()));
+            }
+            if (filter.to() != null) {
+                predicates.add(cb.lessThan(saleDate, filter.to()));
+            }
+
+            if (after != null) {
+                if (after.saleDate() == null) {
+                    predicates.add(cb.and(cb.isNull(saleDate), cb.greaterThan(id, after.id())));
+                } else {
+                    predicates.add(cb.or(
+                            cb.greaterThan(saleDate, after.saleDate()),
+                            cb.and(cb.equal(saleDate, after.saleDate()), cb.greaterThan(id, after.id())),
+                            cb.isNull(saleDate)
+                    ));
+                }
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,12 +1,33 @@
 package br.com.dealership.modules.sale.adapter.database.repositories;
 
 import br.com.dealership.modules.sale.adapter.database.entities.SaleOrderEntity;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
-public interface SaleRepository extends JpaRepository<SaleOrderEntity, Long> {
+public interface SaleRepository extends JpaRepository<SaleOrderEntity, Long>, JpaSpecificationExecutor<SaleOrderEntity> {
     List<SaleOrderEntity> findAllByCustomerCpf(CPF customerCpf);
+
+    @Query("SELECT s.version FROM SaleOrderEntity s WHERE s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SaleOrderEntity s SET s.status = :newStatus, s.saleDate = :saleDate, s.version = s.version + 1
+            WHERE s.id = :id AND s.status = :expectedStatus
+            """)
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") SaleStatus expectedStatus,
+                              @Param("newStatus") SaleStatus newStatus,
+                              @Param("saleDate") LocalDateTime saleDate);
 }
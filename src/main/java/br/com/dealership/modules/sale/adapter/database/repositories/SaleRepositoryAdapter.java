@@ -1,12 +1,21 @@
 package br.com.dealership.modules.sale.adapter.database.repositories;
 
+import br.com.dealership.modules.sale.adapter.database.entities.SaleOrderEntity;
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
 import br.com.dealership.modules.sale.mapper.SaleMapper;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -27,6 +36,7 @@ public class SaleRepositoryAdapter implements SaleRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SaleOrder> getAllSales() {
         return repository.findAll().stream()
                 .map(saleMapper::mapToDomain)
@@ -34,6 +44,7 @@ public class SaleRepositoryAdapter implements SaleRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SaleOrder> getAllSalesByCustomerCpf(String customerCpf) {
         CPF cpf = new CPF(customerCpf);
         return repository.findAllByCustomerCpf(cpf).stream()
@@ -42,9 +53,46 @@ public class SaleRepositoryAdapter implements SaleRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SaleOrder> getSalesPage(SaleFilter filter, SaleCursor after, int limit) {
+        List<SaleOrderEntity> entities = repository.findBy(
+                SaleOrderSpecifications.matching(filter, after),
+                query -> query.sortBy(SaleOrderSpecifications.KEYSET_ORDER).limit(limit + 1).all()
+        );
+
+        boolean hasNext = entities.size() > limit;
+        List<SaleOrder> sales = entities.stream()
+                .limit(limit)
+                .map(saleMapper::mapToDomain)
+                .toList();
+
+        String nextCursor = hasNext ? SaleCursor.of(sales.getLast()).encode() : null;
+        return new CursorPage<>(sales, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public SaleOrder getSaleById(String id) {
         return repository.findById(Long.parseLong(id))
                 .map(saleMapper::mapToDomain)
                 .orElse(null);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getSaleVersionById(String id) {
+        return repository.findVersionById(Long.parseLong(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionedSaleOrder> getVersionedSaleById(String id) {
+        return repository.findById(Long.parseLong(id))
+                .map(entity -> new VersionedSaleOrder(entity.getVersion(), saleMapper.mapToDomain(entity)));
+    }
+
+    @Override
+    public boolean updateStatusIfPending(Long id, SaleStatus newStatus, LocalDateTime saleDate) {
+        return repository.updateStatusIfCurrent(id, SaleStatus.PENDING, newStatus, saleDate) == 1;
+    }
 }
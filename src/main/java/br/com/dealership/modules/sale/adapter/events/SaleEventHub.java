@@ -0,0 +1,195 @@
+package br.com.dealership.modules.sale.adapter.events;
+
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
+import br.com.dealership.modules.sale.domain.ports.out.SaleEventPublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process publish/subscribe hub for sale status changes. Changes published inside a transaction are dispatched
+ * only after it commits. Each subscriber has its own bounded buffer drained on the delivery executor, so a slow
+ * client never blocks the publisher; a subscriber whose buffer overflows is closed and is expected to reconnect.
+ * Idle subscribers get a heartbeat every {@code dealership.sale-events.heartbeat-interval}.
+ */
+public class SaleEventHub implements SaleEventPublisherPort, AutoCloseable {
+    public static final String SUBSCRIBERS_METRIC = "dealership.sales.events.subscribers";
+    public static final String EVICTIONS_METRIC = "dealership.sales.events.evictions";
+
+    public interface Subscriber {
+        void send(SaleStatusChange change) throws IOException;
+        void heartbeat() throws IOException;
+        void close();
+    }
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor executor;
+    private final int bufferSize;
+    private Counter evictions;
+
+    public SaleEventHub(Executor executor, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Sale event buffer size must be positive");
+        }
+
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        registry.gauge(SUBSCRIBERS_METRIC, subscriberCount);
+        evictions = registry.counter(EVICTIONS_METRIC);
+    }
+
+    public Subscription subscribe(Long saleId, Subscriber subscriber) {
+        Subscription subscription = new Subscription(saleId, subscriber);
+        subscriptions.computeIfAbsent(saleId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscriberCount.incrementAndGet();
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void publish(SaleStatusChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(change);
+                }
+            });
+            return;
+        }
+
+        dispatch(change);
+    }
+
+    @Scheduled(fixedDelayString = "${dealership.sale-events.heartbeat-interval:15s}",
+            initialDelayString = "${dealership.sale-events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscriptions.values().forEach(set -> set.forEach(Subscription::heartbeat));
+    }
+
+    @Override
+    public void close() {
+        subscriptions.values().forEach(set -> set.forEach(Subscription::close));
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private void dispatch(SaleStatusChange change) {
+        Set<Subscription> subscribers = subscriptions.get(change.saleId());
+        if (subscribers != null) {
+            subscribers.forEach(subscription -> subscription.offer(change));
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.saleId, (id, set) -> {
+            if (set.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    public final class Subscription {
+        private final Long saleId;
+        private final Subscriber subscriber;
+        private final BlockingQueue<SaleStatusChange> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(Long saleId, Subscriber subscriber) {
+            this.saleId = saleId;
+            this.subscriber = subscriber;
+        }
+
+        public void offer(SaleStatusChange change) {
+            if (closed.get()) {
+                return;
+            }
+
+            if (!buffer.offer(change)) {
+                if (evictions != null) {
+                    evictions.increment();
+                }
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        public void cancel() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+            }
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        private void heartbeat() {
+            if (buffer.isEmpty()) {
+                heartbeatDue.set(true);
+                schedule();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                subscriber.close();
+            }
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    SaleStatusChange change;
+                    while (!closed.get() && (change = buffer.poll()) != null) {
+                        subscriber.send(change);
+                        if (change.isFinal()) {
+                            close();
+                        }
+                    }
+
+                    if (!closed.get() && heartbeatDue.getAndSet(false)) {
+                        subscriber.heartbeat();
+                    }
+
+                    draining.set(false);
+                } while (!closed.get() && (!buffer.isEmpty() || heartbeatDue.get()) && draining.compareAndSet(false, true));
+            } catch (IOException | RuntimeException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package br.com.dealership.modules.sale.adapter.http;
 
+import br.com.dealership.datasource.PrimaryReads;
 import br.com.dealership.exception.ErrorResponse;
+import br.com.dealership.idempotency.IdempotencyStore;
+import br.com.dealership.modules.sale.adapter.events.SaleEventHub;
 import br.com.dealership.modules.sale.adapter.http.dto.CreateSaleDTO;
 import br.com.dealership.modules.sale.adapter.http.dto.WebhookStatusDTO;
 import br.com.dealership.modules.sale.application.services.SaleService;
+import br.com.dealership.modules.sale.application.useCases.EnqueuePaymentWebhookUseCase;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
 import br.com.dealership.modules.sale.mapper.SaleMapper;
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.shared.http.ETags;
 import br.com.dealership.security.AuthenticatedUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,23 +25,46 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/sales")
 @Tag(name = "Sales", description = "Sales management endpoints")
 public class SaleController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final SaleService saleService;
     private final SaleMapper saleMapper;
     private final AuthenticatedUserService authenticatedUserService;
+    private final EnqueuePaymentWebhookUseCase enqueuePaymentWebhookUseCase;
+    private final IdempotencyStore idempotencyStore;
+    private final SaleEventHub saleEventHub;
+    private final boolean asyncPaymentWebhook;
+    private final Duration saleEventsTimeout;
 
-    public SaleController(SaleService saleService, SaleMapper saleMapper, AuthenticatedUserService authenticatedUserService) {
+    public SaleController(SaleService saleService, SaleMapper saleMapper, AuthenticatedUserService authenticatedUserService,
+                          EnqueuePaymentWebhookUseCase enqueuePaymentWebhookUseCase, IdempotencyStore idempotencyStore,
+                          SaleEventHub saleEventHub,
+                          @Value("${dealership.payment-webhook.async.enabled:false}") boolean asyncPaymentWebhook,
+                          @Value("${dealership.sale-events.timeout:10m}") Duration saleEventsTimeout) {
         this.saleService = saleService;
         this.saleMapper = saleMapper;
         this.authenticatedUserService = authenticatedUserService;
+        this.enqueuePaymentWebhookUseCase = enqueuePaymentWebhookUseCase;
+        this.idempotencyStore = idempotencyStore;
+        this.saleEventHub = saleEventHub;
+        this.asyncPaymentWebhook = asyncPaymentWebhook;
+        this.saleEventsTimeout = saleEventsTimeout;
     }
 
     @PostMapping()
@@ -44,28 +77,43 @@ public class SaleController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Invalid sale data",
+                    description = "Invalid sale data or Idempotency-Key reused with a different request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A request with the same Idempotency-Key is still being processed",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public ResponseEntity<SaleOrder> createSaleOrder(@RequestBody CreateSaleDTO createSaleDTO) {
+    public ResponseEntity<?> createSaleOrder(
+            @Parameter(description = "Optional key used to replay the first response of a retried request")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @RequestBody CreateSaleDTO createSaleDTO) {
         var authenticatedUser = authenticatedUserService.getAuthenticatedUser();
-        SaleOrder saleOrder = saleMapper.mapFromCreateDTO(
-                createSaleDTO,
-                authenticatedUser.name(),
-                authenticatedUser.cpf()
-        );
-        return ResponseEntity.ok(saleService.createSale(saleOrder));
+        return idempotencyStore.execute("create-sale", authenticatedUser.cpf(), idempotencyKey, createSaleDTO, () -> {
+            SaleOrder saleOrder = saleMapper.mapFromCreateDTO(
+                    createSaleDTO,
+                    authenticatedUser.name(),
+                    authenticatedUser.cpf()
+            );
+            return ResponseEntity.ok(saleService.createSale(saleOrder));
+        });
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get sale by ID", description = "Retrieves a sale order by its ID")
+    @Operation(summary = "Get sale by ID", description = "Retrieves a sale order by its ID. The response carries a strong ETag that "
+            + "changes with every status update; send it back in If-None-Match to get 304 while the sale is unchanged")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Sale found",
                     content = @Content(schema = @Schema(implementation = SaleOrder.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Sale unchanged since the ETag given in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Sale not found",
@@ -78,12 +126,65 @@ public class SaleController {
             )
     })
     public ResponseEntity<SaleOrder> getSaleOrderById(
+            @Parameter(description = "Sale Order ID") @PathVariable String id,
+            @Parameter(description = "ETag of a previously received response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Long version = saleService.getSaleVersionById(id).orElse(null);
+            if (version != null && ETags.matches(ifNoneMatch, ETags.strong(version))) {
+                return ETags.notModified(ETags.strong(version));
+            }
+        }
+
+        VersionedSaleOrder sale = saleService.getVersionedSaleById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.strong(sale.version()))
+                .cacheControl(ETags.REVALIDATE)
+                .body(sale.saleOrder());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream sale status changes", description = "Opens a Server-Sent Events stream that first sends the current "
+            + "sale status and then pushes the status change committed by the payment webhook. The stream is closed by the server "
+            + "after a COMPLETED or CANCELED status; idle streams receive a heartbeat comment")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream of sale status changes",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = SaleStatusChange.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Sale not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid ID parameter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public SseEmitter streamSaleEvents(
             @Parameter(description = "Sale Order ID") @PathVariable String id) {
-        return ResponseEntity.ok(saleService.getSaleById(id));
+        SaleOrder saleOrder = saleService.getSaleById(id);
+
+        SseEmitter emitter = new SseEmitter(saleEventsTimeout.toMillis());
+        SaleEventHub.Subscription subscription = saleEventHub.subscribe(saleOrder.getId(), new SseSaleEventSubscriber(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+
+        // a change committed between the first read and subscribe() was not delivered, so read again, from the primary
+        if (saleOrder.getStatus() == SaleStatus.PENDING) {
+            saleOrder = PrimaryReads.call(() -> saleService.getSaleById(id));
+        }
+        subscription.offer(SaleStatusChange.of(saleOrder));
+        return emitter;
     }
 
     @PostMapping("/payment-webhook/{id}")
-    @Operation(summary = "Payment webhook", description = "Webhook endpoint for payment status updates")
+    @Operation(summary = "Payment webhook", description = "Webhook endpoint for payment status updates. "
+            + "When asynchronous ingestion is enabled, the payload is validated, queued and acknowledged with 202")
     @SecurityRequirements()
     @ApiResponses(value = {
             @ApiResponse(
@@ -91,6 +192,10 @@ public class SaleController {
                     description = "Payment status updated successfully",
                     content = @Content(schema = @Schema(implementation = WebhookStatusDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Payment status queued for processing (asynchronous mode)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid payment data or payer CPF does not match customer CPF",
@@ -103,36 +208,59 @@ public class SaleController {
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "Sale is not in PENDING status",
+                    description = "Sale is not in PENDING status or a request with the same Idempotency-Key is still being processed",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public ResponseEntity<SaleOrder> updateSaleOrder(
+    public ResponseEntity<?> updateSaleOrder(
             @Parameter(description = "Sale Order ID") @PathVariable String id,
+            @Parameter(description = "Optional key used to replay the first response of a retried delivery")
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @RequestBody WebhookStatusDTO status) {
-        saleService.paySale(id, status.success(), status.payerCpf());
-        return ResponseEntity.ok().build();
+        return idempotencyStore.execute("payment-webhook", id, idempotencyKey, status, () -> {
+            if (asyncPaymentWebhook) {
+                enqueuePaymentWebhookUseCase.execute(id, status.success(), status.payerCpf());
+                return ResponseEntity.accepted().build();
+            }
+
+            saleService.paySale(id, status.success(), status.payerCpf());
+            return ResponseEntity.ok().build();
+        });
     }
 
     @GetMapping()
-    @Operation(summary = "Get all sales", description = "Retrieves all sale orders, optionally filtered by customer CPF")
+    @Operation(summary = "Get sales", description = "Retrieves a page of sale orders ordered by sale date, optionally filtered by customer CPF, status and sale date range. "
+            + "When more results exist, the cursor for the next page is returned in the " + NEXT_CURSOR_HEADER + " header")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of sales retrieved successfully",
+                    description = "Page of sales retrieved successfully",
                     content = @Content(schema = @Schema(implementation = SaleOrder.class))
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Invalid CPF parameter",
+                    description = "Invalid CPF, filter, cursor or limit parameter",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     public ResponseEntity<List<SaleOrder>> getAllSaleOrders(
-            @Parameter(description = "Customer CPF (optional)") @RequestParam(required = false) String cpf) {
-        if (cpf != null && !cpf.isBlank()) {
-            return ResponseEntity.ok(saleService.getAllSalesByCustomerCPF(cpf));
+            @Parameter(description = "Customer CPF (optional)") @RequestParam(required = false) String cpf,
+            @Parameter(description = "Sale status (optional)") @RequestParam(required = false) SaleStatus status,
+            @Parameter(description = "Sale date lower bound, inclusive (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Sale date upper bound, exclusive (optional)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of sales per page (1-500)") @RequestParam(defaultValue = "50") int limit) {
+        SaleFilter filter = new SaleFilter(null, status, from, to);
+        CursorPage<SaleOrder> page = cpf != null && !cpf.isBlank()
+                ? saleService.getSalesByCustomerCPF(cpf, filter, cursor, limit)
+                : saleService.getSales(filter, cursor, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
         }
-        return ResponseEntity.ok(saleService.getAllSales());
+        return response.body(page.items());
     }
 }
@@ -0,0 +1,36 @@
+package br.com.dealership.modules.sale.adapter.http;
+
+import br.com.dealership.modules.sale.adapter.events.SaleEventHub;
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+class SseSaleEventSubscriber implements SaleEventHub.Subscriber {
+    static final String EVENT_NAME = "sale-status";
+
+    private final SseEmitter emitter;
+
+    SseSaleEventSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(SaleStatusChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(change.saleId() + ":" + change.status())
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.dealership.modules.sale.application.services;
+
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
+import br.com.dealership.modules.sale.domain.exception.SaleNotFoundException;
+import br.com.dealership.modules.sale.domain.ports.in.SaleServicePort;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class PaymentWebhookWorker implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PaymentWebhookWorker.class);
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final PaymentWebhookQueuePort queue;
+    private final SaleServicePort saleService;
+    private final TransactionOperations transactions;
+    private final Executor executor;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public PaymentWebhookWorker(PaymentWebhookQueuePort queue, SaleServicePort saleService, TransactionOperations transactions, Executor executor,
+                                int batchSize, Duration lease, int maxAttempts, Duration retryBackoff) {
+        this.queue = queue;
+        this.saleService = saleService;
+        this.transactions = transactions;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    public void drainAll() {
+        while (drain() == batchSize) {
+            // keep draining while the queue hands out full batches
+        }
+    }
+
+    public int drain() {
+        List<PaymentWebhookEvent> batch = queue.claimBatch(batchSize, lease);
+
+        CompletableFuture.allOf(batch.stream()
+                .map(event -> CompletableFuture.runAsync(() -> process(event), executor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        return batch.size();
+    }
+
+    void process(PaymentWebhookEvent event) {
+        try {
+            transactions.executeWithoutResult(status -> {
+                saleService.paySale(String.valueOf(event.getSaleId()), event.isPaymentSuccess(), event.getPayerCpf().getValue());
+                queue.acknowledge(event.getId());
+            });
+        } catch (InvalidSaleException | InvalidSaleStatusException | SaleNotFoundException e) {
+            deadLetter(event, e);
+        } catch (RuntimeException e) {
+            if (event.getAttempts() >= maxAttempts) {
+                deadLetter(event, e);
+            } else {
+                Duration delay = retryBackoff.multipliedBy(1L << Math.clamp(event.getAttempts() - 1, 0, MAX_BACKOFF_SHIFT));
+                queue.retryAt(event.getId(), LocalDateTime.now().plus(delay), e.getMessage());
+            }
+        }
+    }
+
+    // Waits for in-flight events, so a shutdown does not abandon claimed events until their lease expires
+    @Override
+    public void close() throws Exception {
+        if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void deadLetter(PaymentWebhookEvent event, RuntimeException e) {
+        log.warn("Dead-lettering payment webhook {} for sale {} after {} attempt(s): {}",
+                event.getId(), event.getSaleId(), event.getAttempts(), e.getMessage());
+        queue.deadLetter(event.getId(), e.getMessage());
+    }
+}
@@ -1,15 +1,21 @@
 package br.com.dealership.modules.sale.application.services;
 
 import br.com.dealership.modules.sale.application.useCases.*;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
 import br.com.dealership.modules.sale.domain.ports.in.SaleServicePort;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import br.com.dealership.modules.shared.useCases.FindAvailableVehicleByIdUseCasePort;
 import br.com.dealership.modules.shared.useCases.MarkVehicleAsSoldUseCasePort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public class SaleService implements SaleServicePort {
     private final CreateSaleUseCase createSaleUseCase;
@@ -31,11 +37,25 @@ public class SaleService implements SaleServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public SaleOrder getSaleById(String id) {
         return findSaleByIdUseCase.execute(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getSaleVersionById(String id) {
+        return findSaleByIdUseCase.findVersion(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionedSaleOrder getVersionedSaleById(String id) {
+        return findSaleByIdUseCase.executeVersioned(id);
+    }
+
+    @Override
+    @Transactional
     public SaleOrder createSale(SaleOrder sale) {
         var vehicle = findAvailableVehicleByIdUseCase.execute(sale.getVehicleVin())
                 .orElseThrow(() -> new InvalidSaleException("Vehicle with VIN " + sale.getVehicleVin() + " does not exist"));
@@ -53,27 +73,42 @@ public class SaleService implements SaleServicePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SaleOrder> getAllSales() {
         return findAllSalesUseCase.execute();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SaleOrder> getAllSalesByCustomerCPF(String cpf) {
         return findAllSaleByCustomerCPFUseCase.execute(cpf);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SaleOrder> getSales(SaleFilter filter, String cursor, int limit) {
+        return findAllSalesUseCase.execute(filter, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SaleOrder> getSalesByCustomerCPF(String cpf, SaleFilter filter, String cursor, int limit) {
+        return findAllSaleByCustomerCPFUseCase.execute(cpf, filter, cursor, limit);
+    }
+
+    @Override
+    @Transactional
     public void paySale(String id, Boolean paymentSuccess, String payerCpf) {
+        CPF payerCpfObj = new CPF(payerCpf);
         SaleOrder saleOrder = findSaleByIdUseCase.execute(id);
 
-        CPF payerCpfObj = new CPF(payerCpf);
         if (!saleOrder.getCustomerCpf().equals(payerCpfObj)) {
             throw new InvalidSaleException("Payer CPF does not match the customer CPF for this sale");
         }
 
-        SaleOrder completedSale = completeSaleUseCase.execute(id, paymentSuccess);
-        if (paymentSuccess) {
-            markVehicleAsSoldUseCase.execute(completedSale.getVehicleId());
+        SaleOrder completedSale = completeSaleUseCase.execute(saleOrder, paymentSuccess);
+        if (paymentSuccess && !markVehicleAsSoldUseCase.execute(completedSale.getVehicleId())) {
+            throw new InvalidSaleStatusException("Vehicle " + completedSale.getVehicleVin() + " is no longer available for sale");
         }
     }
 }
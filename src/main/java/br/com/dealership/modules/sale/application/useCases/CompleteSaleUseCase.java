@@ -2,15 +2,19 @@ package br.com.dealership.modules.sale.application.useCases;
 
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
 import br.com.dealership.modules.sale.domain.exception.SaleNotFoundException;
+import br.com.dealership.modules.sale.domain.ports.out.SaleEventPublisherPort;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
 
 public class CompleteSaleUseCase {
     private final SaleRepositoryPort repository;
+    private final SaleEventPublisherPort events;
 
-    public CompleteSaleUseCase(SaleRepositoryPort repository) {
+    public CompleteSaleUseCase(SaleRepositoryPort repository, SaleEventPublisherPort events) {
         this.repository = repository;
+        this.events = events;
     }
 
     public SaleOrder execute(String id, Boolean paymentSuccess) {
@@ -20,8 +24,12 @@ public class CompleteSaleUseCase {
             throw new SaleNotFoundException("Sale with id " + id + " does not exist");
         }
 
+        return execute(saleOrder, paymentSuccess);
+    }
+
+    public SaleOrder execute(SaleOrder saleOrder, Boolean paymentSuccess) {
         if(saleOrder.getStatus() != SaleStatus.PENDING) {
-            throw new InvalidSaleStatusException("Sale with id " + id + " is not in PENDING status. Current status: " + saleOrder.getStatus());
+            throw new InvalidSaleStatusException("Sale with id " + saleOrder.getId() + " is not in PENDING status. Current status: " + saleOrder.getStatus());
         }
 
         if (paymentSuccess) {
@@ -30,6 +38,11 @@ public class CompleteSaleUseCase {
             saleOrder.setStatus(SaleStatus.CANCELED);
         }
 
-        return repository.save(saleOrder);
+        if (!repository.updateStatusIfPending(saleOrder.getId(), saleOrder.getStatus(), saleOrder.getSaleDate())) {
+            throw new InvalidSaleStatusException("Sale with id " + saleOrder.getId() + " is no longer in PENDING status");
+        }
+
+        events.publish(SaleStatusChange.of(saleOrder));
+        return saleOrder;
     }
 }
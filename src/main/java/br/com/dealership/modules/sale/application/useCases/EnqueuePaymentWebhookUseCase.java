@@ -0,0 +1,16 @@
+package br.com.dealership.modules.sale.application.useCases;
+
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+
+public class EnqueuePaymentWebhookUseCase {
+    private final PaymentWebhookQueuePort queue;
+
+    public EnqueuePaymentWebhookUseCase(PaymentWebhookQueuePort queue) {
+        this.queue = queue;
+    }
+
+    public PaymentWebhookEvent execute(String saleId, Boolean paymentSuccess, String payerCpf) {
+        return queue.enqueue(PaymentWebhookEvent.received(saleId, paymentSuccess, payerCpf));
+    }
+}
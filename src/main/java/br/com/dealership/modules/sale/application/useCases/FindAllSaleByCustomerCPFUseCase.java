@@ -1,9 +1,12 @@
 package br.com.dealership.modules.sale.application.useCases;
 
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 
 import java.util.List;
 
@@ -15,16 +18,33 @@ public class FindAllSaleByCustomerCPFUseCase {
     }
 
     public List<SaleOrder> execute(String customerCpf) {
+        parseCpf(customerCpf);
+
+        return saleRepositoryPort.getAllSalesByCustomerCpf(customerCpf);
+    }
+
+    public CursorPage<SaleOrder> execute(String customerCpf, SaleFilter filter, String cursor, int limit) {
+        CPF cpf = parseCpf(customerCpf);
+
+        if (limit < 1 || limit > FindAllSalesUseCase.MAX_PAGE_SIZE) {
+            throw new InvalidSaleException("Limit must be between 1 and " + FindAllSalesUseCase.MAX_PAGE_SIZE);
+        }
+
+        SaleFilter cpfFilter = (filter == null ? SaleFilter.none() : filter).withCustomerCpf(cpf);
+        cpfFilter.validate();
+
+        return saleRepositoryPort.getSalesPage(cpfFilter, SaleCursor.decode(cursor), limit);
+    }
+
+    private CPF parseCpf(String customerCpf) {
         if (customerCpf == null || customerCpf.isBlank()) {
             throw new InvalidSaleException("Customer CPF cannot be null or empty");
         }
 
         try {
-            new CPF(customerCpf);
+            return new CPF(customerCpf);
         } catch (IllegalArgumentException e) {
             throw new InvalidSaleException("Invalid CPF format: " + e.getMessage());
         }
-
-        return saleRepositoryPort.getAllSalesByCustomerCpf(customerCpf);
     }
 }
@@ -1,11 +1,18 @@
 package br.com.dealership.modules.sale.application.useCases;
 
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 
 import java.util.List;
 
 public class FindAllSalesUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final SaleRepositoryPort saleRepositoryPort;
 
     public FindAllSalesUseCase(SaleRepositoryPort saleRepositoryPort) {
@@ -15,4 +22,18 @@ public class FindAllSalesUseCase {
     public List<SaleOrder> execute() {
         return saleRepositoryPort.getAllSales();
     }
-}
\ No newline at end of file
+
+    public CursorPage<SaleOrder> execute(SaleFilter filter, String cursor, int limit) {
+        if (filter == null) {
+            filter = SaleFilter.none();
+        }
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidSaleException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        filter.validate();
+
+        return saleRepositoryPort.getSalesPage(filter, SaleCursor.decode(cursor), limit);
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.dealership.modules.sale.application.useCases;
 
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.exception.SaleNotFoundException;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
 
+import java.util.Optional;
+
 public class FindSaleByIdUseCase {
     private final SaleRepositoryPort saleRepositoryPort;
 
@@ -25,4 +28,21 @@ public class FindSaleByIdUseCase {
 
         return saleOrder;
     }
+
+    public VersionedSaleOrder executeVersioned(String id) {
+        if (id == null || id.isBlank()) {
+            throw new InvalidSaleException("Sale ID cannot be null or empty");
+        }
+
+        return saleRepositoryPort.getVersionedSaleById(id)
+                .orElseThrow(() -> new SaleNotFoundException("Sale not found with ID: " + id));
+    }
+
+    public Optional<Long> findVersion(String id) {
+        if (id == null || id.isBlank()) {
+            throw new InvalidSaleException("Sale ID cannot be null or empty");
+        }
+
+        return saleRepositoryPort.getSaleVersionById(id);
+    }
 }
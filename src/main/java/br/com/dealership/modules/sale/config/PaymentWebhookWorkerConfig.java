@@ -0,0 +1,63 @@
+package br.com.dealership.modules.sale.config;
+
+import br.com.dealership.modules.sale.application.services.PaymentWebhookWorker;
+import br.com.dealership.modules.sale.domain.ports.in.SaleServicePort;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "dealership.payment-webhook.async.enabled", havingValue = "true")
+public class PaymentWebhookWorkerConfig {
+    private final ObjectProvider<PaymentWebhookWorker> paymentWebhookWorker;
+
+    public PaymentWebhookWorkerConfig(ObjectProvider<PaymentWebhookWorker> paymentWebhookWorker) {
+        this.paymentWebhookWorker = paymentWebhookWorker;
+    }
+
+    @Bean(destroyMethod = "close")
+    public PaymentWebhookWorker paymentWebhookWorker(PaymentWebhookQueuePort queue,
+                                                     SaleServicePort saleService,
+                                                     PlatformTransactionManager transactionManager,
+                                                     @Value("${dealership.payment-webhook.async.workers:4}") int workers,
+                                                     @Value("${dealership.payment-webhook.async.batch-size:100}") int batchSize,
+                                                     @Value("${dealership.payment-webhook.async.lease:30s}") Duration lease,
+                                                     @Value("${dealership.payment-webhook.async.max-attempts:5}") int maxAttempts,
+                                                     @Value("${dealership.payment-webhook.async.retry-backoff:2s}") Duration retryBackoff,
+                                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new PaymentWebhookWorker(queue, saleService, new TransactionTemplate(transactionManager),
+                workerExecutor(workers, lease, virtualThreads), batchSize, lease, maxAttempts, retryBackoff);
+    }
+
+    // Owned by the worker rather than published as a bean: any Executor bean makes Boot back off its
+    // applicationTaskExecutor, which @Async and MVC async requests rely on
+    private static Executor workerExecutor(int workers, Duration lease, boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("payment-webhook-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(workers);
+            executor.setTaskTerminationTimeout(lease.toMillis());
+            return executor;
+        }
+
+        return Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("payment-webhook-", 0).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${dealership.payment-webhook.async.poll-interval:1s}")
+    public void drainPaymentWebhooks() {
+        paymentWebhookWorker.getObject().drainAll();
+    }
+}
@@ -1,14 +1,25 @@
 package br.com.dealership.modules.sale.config;
 
+import br.com.dealership.modules.sale.adapter.database.entities.SaleOrderIdGenerator;
+import br.com.dealership.modules.sale.adapter.events.SaleEventHub;
 import br.com.dealership.modules.sale.application.services.SaleService;
 import br.com.dealership.modules.sale.application.useCases.*;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import br.com.dealership.modules.sale.domain.ports.out.SaleEventPublisherPort;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
+import br.com.dealership.modules.sale.mapper.PaymentWebhookEventMapper;
 import br.com.dealership.modules.sale.mapper.SaleMapper;
 import br.com.dealership.modules.shared.useCases.FindAvailableVehicleByIdUseCasePort;
 import br.com.dealership.modules.shared.useCases.MarkVehicleAsSoldUseCasePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class SaleConfig {
 
@@ -17,6 +28,16 @@ public class SaleConfig {
         return new SaleMapper();
     }
 
+    @Bean
+    public PaymentWebhookEventMapper paymentWebhookEventMapper() {
+        return new PaymentWebhookEventMapper();
+    }
+
+    @Bean
+    public EnqueuePaymentWebhookUseCase enqueuePaymentWebhookUseCase(PaymentWebhookQueuePort queuePort) {
+        return new EnqueuePaymentWebhookUseCase(queuePort);
+    }
+
     @Bean
     public CreateSaleUseCase createSaleUseCase(SaleRepositoryPort repositoryPort) {
         return new CreateSaleUseCase(repositoryPort);
@@ -37,9 +58,28 @@ public class SaleConfig {
         return new FindAllSalesUseCase(repositoryPort);
     }
 
+    // SaleOrderIdGenerator reads the allocation size from the Hibernate settings
+    @Bean
+    public HibernatePropertiesCustomizer saleOrderIdAllocationSize(@Value("${dealership.sale-orders.id-allocation-size:50}") int allocationSize) {
+        return properties -> properties.put(SaleOrderIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    public SaleEventHub saleEventHub(MeterRegistry meterRegistry,
+                                     @Value("${dealership.sale-events.buffer-size:16}") int bufferSize,
+                                     @Value("${dealership.sale-events.delivery-threads:4}") int deliveryThreads,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ExecutorService executor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(deliveryThreads, Thread.ofPlatform().name("sale-events-", 0).daemon().factory());
+        SaleEventHub hub = new SaleEventHub(executor, bufferSize);
+        hub.bindTo(meterRegistry);
+        return hub;
+    }
+
     @Bean
-    public CompleteSaleUseCase completeSaleUseCase(SaleRepositoryPort repositoryPort) {
-        return new CompleteSaleUseCase(repositoryPort);
+    public CompleteSaleUseCase completeSaleUseCase(SaleRepositoryPort repositoryPort, SaleEventPublisherPort saleEventPublisherPort) {
+        return new CompleteSaleUseCase(repositoryPort, saleEventPublisherPort);
     }
 
     @Bean
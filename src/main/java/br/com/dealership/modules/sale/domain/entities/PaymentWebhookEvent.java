@@ -0,0 +1,122 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
+
+import java.time.LocalDateTime;
+
+public class PaymentWebhookEvent {
+    private Long id;
+    private Long saleId;
+    private boolean paymentSuccess;
+    private CPF payerCpf;
+    private PaymentWebhookStatus status;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime receivedAt;
+    private LocalDateTime availableAt;
+
+    public PaymentWebhookEvent(Long id, Long saleId, boolean paymentSuccess, CPF payerCpf, PaymentWebhookStatus status, int attempts, String lastError, LocalDateTime receivedAt, LocalDateTime availableAt) {
+        this.id = id;
+        this.saleId = saleId;
+        this.paymentSuccess = paymentSuccess;
+        this.payerCpf = payerCpf;
+        this.status = status;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.receivedAt = receivedAt;
+        this.availableAt = availableAt;
+    }
+
+    public static PaymentWebhookEvent received(String saleId, Boolean paymentSuccess, String payerCpf) {
+        if (saleId == null || saleId.isBlank()) {
+            throw new InvalidSaleException("Sale ID cannot be null or empty");
+        }
+
+        if (paymentSuccess == null) {
+            throw new InvalidSaleException("Payment success status is required");
+        }
+
+        long parsedSaleId;
+        try {
+            parsedSaleId = Long.parseLong(saleId);
+        } catch (NumberFormatException e) {
+            throw new InvalidSaleException("Invalid sale ID: " + saleId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return new PaymentWebhookEvent(null, parsedSaleId, paymentSuccess, new CPF(payerCpf), PaymentWebhookStatus.PENDING, 0, null, now, now);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSaleId() {
+        return saleId;
+    }
+
+    public void setSaleId(Long saleId) {
+        this.saleId = saleId;
+    }
+
+    public boolean isPaymentSuccess() {
+        return paymentSuccess;
+    }
+
+    public void setPaymentSuccess(boolean paymentSuccess) {
+        this.paymentSuccess = paymentSuccess;
+    }
+
+    public CPF getPayerCpf() {
+        return payerCpf;
+    }
+
+    public void setPayerCpf(CPF payerCpf) {
+        this.payerCpf = payerCpf;
+    }
+
+    public PaymentWebhookStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PaymentWebhookStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+}
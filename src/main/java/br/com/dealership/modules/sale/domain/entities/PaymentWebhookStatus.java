@@ -0,0 +1,7 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+public enum PaymentWebhookStatus {
+    PENDING,
+    PROCESSING,
+    FAILED
+}
@@ -0,0 +1,42 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record SaleCursor(LocalDateTime saleDate, Long id) {
+    private static final char SEPARATOR = '|';
+
+    public SaleCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+
+    public static SaleCursor of(SaleOrder saleOrder) {
+        return new SaleCursor(saleOrder.getSaleDate(), saleOrder.getId());
+    }
+
+    public static SaleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String saleDate = raw.substring(0, separator);
+            return new SaleCursor(
+                    saleDate.isEmpty() ? null : LocalDateTime.parse(saleDate),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = (saleDate == null ? "" : saleDate.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
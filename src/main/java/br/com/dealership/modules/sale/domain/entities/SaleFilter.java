@@ -0,0 +1,23 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
+
+import java.time.LocalDateTime;
+
+public record SaleFilter(CPF customerCpf, SaleStatus status, LocalDateTime from, LocalDateTime to) {
+
+    public static SaleFilter none() {
+        return new SaleFilter(null, null, null, null);
+    }
+
+    public SaleFilter withCustomerCpf(CPF customerCpf) {
+        return new SaleFilter(customerCpf, status, from, to);
+    }
+
+    public void validate() {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidSaleException("Sale date range start must not be after its end");
+        }
+    }
+}
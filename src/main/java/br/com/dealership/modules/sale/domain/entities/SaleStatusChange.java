@@ -0,0 +1,14 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+import java.time.LocalDateTime;
+
+public record SaleStatusChange(Long saleId, SaleStatus status, LocalDateTime saleDate) {
+
+    public static SaleStatusChange of(SaleOrder saleOrder) {
+        return new SaleStatusChange(saleOrder.getId(), saleOrder.getStatus(), saleOrder.getSaleDate());
+    }
+
+    public boolean isFinal() {
+        return status != SaleStatus.PENDING;
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+public record VersionedSaleOrder(long version, SaleOrder saleOrder) {
+}
@@ -1,68 +1,117 @@
 package br.com.dealership.modules.sale.domain.entities.valueobjects;
 
-import java.util.Objects;
-
 public class CPF {
-    private final String value;
+    private static final int LENGTH = 11;
+    private static final long MAX_VALUE = 99_999_999_999L;
+
+    private final long value;
 
     public CPF(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("CPF cannot be null or empty");
         }
 
-        String cleanCpf = value.replaceAll("[^0-9]", "");
+        long parsed = parse(value);
 
-        if (!isValid(cleanCpf)) {
+        if (parsed < 0 || !isValid(parsed)) {
             throw new IllegalArgumentException("Invalid CPF: " + value);
         }
 
-        this.value = cleanCpf;
+        this.value = parsed;
     }
 
-    private boolean isValid(String cpf) {
-        if (cpf.length() != 11) {
-            return false;
+    public CPF(long value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid CPF: " + value);
         }
 
-        if (cpf.matches("(\\d)\\1{10}")) {
+        this.value = value;
+    }
+
+    private static long parse(String value) {
+        long number = 0;
+        int count = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (count == LENGTH) {
+                return -1;
+            }
+
+            number = number * 10 + (c - '0');
+            count++;
+        }
+
+        return count == LENGTH ? number : -1;
+    }
+
+    private static boolean isValid(long number) {
+        if (number < 0 || number > MAX_VALUE) {
             return false;
         }
 
-        try {
-            int sum = 0;
-            for (int i = 0; i < 9; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstDigit = 0;
+        boolean allEqual = true;
+        long divisor = 10_000_000_000L;
+
+        for (int i = 0; i < LENGTH; i++) {
+            int digit = (int) (number / divisor % 10);
+            divisor /= 10;
+
+            if (i == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                allEqual = false;
             }
-            int firstDigit = 11 - (sum % 11);
-            firstDigit = firstDigit >= 10 ? 0 : firstDigit;
 
-            if (Character.getNumericValue(cpf.charAt(9)) != firstDigit) {
+            if (i < 9) {
+                firstSum += digit * (10 - i);
+            } else if (i == 9 && digit != checkDigit(firstSum)) {
                 return false;
             }
 
-            sum = 0;
-            for (int i = 0; i < 10; i++) {
-                sum += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+            if (i < 10) {
+                secondSum += digit * (11 - i);
+            } else if (digit != checkDigit(secondSum)) {
+                return false;
             }
-            int secondDigit = 11 - (sum % 11);
-            secondDigit = secondDigit >= 10 ? 0 : secondDigit;
-
-            return Character.getNumericValue(cpf.charAt(10)) == secondDigit;
-        } catch (Exception e) {
-            return false;
         }
+
+        return !allEqual;
     }
 
-    public String getValue() {
+    private static int checkDigit(int sum) {
+        int digit = 11 - (sum % 11);
+        return digit >= 10 ? 0 : digit;
+    }
+
+    public long toLong() {
         return value;
     }
 
+    public String getValue() {
+        return new String(digits());
+    }
+
     public String getFormattedValue() {
-        return String.format("%s.%s.%s-%s",
-                value.substring(0, 3),
-                value.substring(3, 6),
-                value.substring(6, 9),
-                value.substring(9, 11));
+        char[] d = digits();
+        return new String(new char[]{d[0], d[1], d[2], '.', d[3], d[4], d[5], '.', d[6], d[7], d[8], '-', d[9], d[10]});
+    }
+
+    private char[] digits() {
+        char[] digits = new char[LENGTH];
+        long remaining = value;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return digits;
     }
 
     @Override
@@ -70,12 +119,12 @@ public class CPF {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CPF cpf = (CPF) o;
-        return Objects.equals(value, cpf.value);
+        return value == cpf.value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(value);
     }
 
     @Override
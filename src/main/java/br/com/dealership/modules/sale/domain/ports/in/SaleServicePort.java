@@ -1,13 +1,21 @@
 package br.com.dealership.modules.sale.domain.ports.in;
 
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SaleServicePort {
     SaleOrder getSaleById(String id);
+    Optional<Long> getSaleVersionById(String id);
+    VersionedSaleOrder getVersionedSaleById(String id);
     SaleOrder createSale(SaleOrder sale);
     List<SaleOrder> getAllSales();
     List<SaleOrder> getAllSalesByCustomerCPF(String cpf);
+    CursorPage<SaleOrder> getSales(SaleFilter filter, String cursor, int limit);
+    CursorPage<SaleOrder> getSalesByCustomerCPF(String cpf, SaleFilter filter, String cursor, int limit);
     void paySale(String id, Boolean paymentSuccess, String payerCpf);
 }
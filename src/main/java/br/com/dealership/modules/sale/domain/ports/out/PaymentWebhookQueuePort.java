@@ -0,0 +1,15 @@
+package br.com.dealership.modules.sale.domain.ports.out;
+
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentWebhookQueuePort {
+    PaymentWebhookEvent enqueue(PaymentWebhookEvent event);
+    List<PaymentWebhookEvent> claimBatch(int batchSize, Duration lease);
+    void acknowledge(Long id);
+    void retryAt(Long id, LocalDateTime availableAt, String error);
+    void deadLetter(Long id, String error);
+}
@@ -0,0 +1,7 @@
+package br.com.dealership.modules.sale.domain.ports.out;
+
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
+
+public interface SaleEventPublisherPort {
+    void publish(SaleStatusChange change);
+}
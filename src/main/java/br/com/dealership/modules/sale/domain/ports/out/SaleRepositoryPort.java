@@ -1,12 +1,23 @@
 package br.com.dealership.modules.sale.domain.ports.out;
 
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface SaleRepositoryPort {
     SaleOrder save(SaleOrder saleOrder);
     List<SaleOrder> getAllSales();
     List<SaleOrder> getAllSalesByCustomerCpf(String cpfClient);
+    CursorPage<SaleOrder> getSalesPage(SaleFilter filter, SaleCursor after, int limit);
     SaleOrder getSaleById(String id);
+    Optional<Long> getSaleVersionById(String id);
+    Optional<VersionedSaleOrder> getVersionedSaleById(String id);
+    boolean updateStatusIfPending(Long id, SaleStatus newStatus, LocalDateTime saleDate);
 }
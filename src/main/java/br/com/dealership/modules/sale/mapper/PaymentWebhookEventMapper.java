@@ -0,0 +1,43 @@
+package br.com.dealership.modules.sale.mapper;
+
+import br.com.dealership.modules.sale.adapter.database.entities.PaymentWebhookEventEntity;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+
+public class PaymentWebhookEventMapper {
+
+    public PaymentWebhookEvent mapToDomain(PaymentWebhookEventEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return new PaymentWebhookEvent(
+                entity.getId(),
+                entity.getSaleId(),
+                entity.isPaymentSuccess(),
+                entity.getPayerCpf(),
+                entity.getStatus(),
+                entity.getAttempts(),
+                entity.getLastError(),
+                entity.getReceivedAt(),
+                entity.getAvailableAt()
+        );
+    }
+
+    public PaymentWebhookEventEntity mapToEntity(PaymentWebhookEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return new PaymentWebhookEventEntity(
+                event.getId(),
+                event.getSaleId(),
+                event.isPaymentSuccess(),
+                event.getPayerCpf(),
+                event.getStatus(),
+                event.getAttempts(),
+                event.getLastError(),
+                event.getReceivedAt(),
+                event.getAvailableAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.dealership.modules.shared.dtos;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
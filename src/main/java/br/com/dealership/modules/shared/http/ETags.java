@@ -0,0 +1,40 @@
+package br.com.dealership.modules.shared.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public final class ETags {
+    // Responses depend on the caller's token, so only private caches may keep them, and only after revalidating
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    public static String strong(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String weak(String version) {
+        return "W/\"" + version + "\"";
+    }
+
+    // If-None-Match uses the weak comparison, so a weak list tag matches its own weak form
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+}
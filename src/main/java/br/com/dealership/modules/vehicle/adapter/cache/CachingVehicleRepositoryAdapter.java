@@ -0,0 +1,264 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFacets;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CachingVehicleRepositoryAdapter implements VehicleRepositoryPort {
+    public static final String BY_VIN_CACHE = "vehicles.byVin";
+    public static final String BY_ID_CACHE = "vehicles.byId";
+
+    private final VehicleRepositoryPort delegate;
+    private final VehicleCatalogVersions catalogVersions;
+    private final Cache<String, Vehicle> byVin;
+    private final Cache<UUID, Vehicle> byId;
+    // VIN of every vehicle cached by VIN, so an update known only by id can still evict its VIN entry
+    private final Map<UUID, String> cachedVinsById = new ConcurrentHashMap<>();
+
+    public CachingVehicleRepositoryAdapter(VehicleRepositoryPort delegate, VehicleCatalogVersions catalogVersions,
+                                           long maximumSize, Duration ttl) {
+        this(delegate, catalogVersions, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    public CachingVehicleRepositoryAdapter(VehicleRepositoryPort delegate, VehicleCatalogVersions catalogVersions,
+                                           long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.catalogVersions = catalogVersions;
+        this.byVin = newCache(maximumSize, ttl, ticker)
+                .evictionListener((String vin, Vehicle vehicle, RemovalCause cause) -> forgetVin(vin, vehicle))
+                .build();
+        this.byId = newCache(maximumSize, ttl, ticker).build();
+    }
+
+    private static Caffeine<Object, Object> newCache(long maximumSize, Duration ttl, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byVin, BY_VIN_CACHE);
+        CaffeineCacheMetrics.monitor(registry, byId, BY_ID_CACHE);
+    }
+
+    @Override
+    public List<Vehicle> getAllByStatus(VehicleStatus status) {
+        return delegate.getAllByStatus(status);
+    }
+
+    @Override
+    public CursorPage<Vehicle> getPageByStatus(VehicleStatus status, VehicleCursor after, int limit) {
+        return delegate.getPageByStatus(status, after, limit);
+    }
+
+    @Override
+    public CursorPage<Vehicle> search(VehicleFilter filter, VehicleSort sort, VehicleSearchCursor after, int limit) {
+        return delegate.search(filter, sort, after, limit);
+    }
+
+    @Override
+    public VehicleFacets getFacets(VehicleFilter filter, int maxBuckets) {
+        return delegate.getFacets(filter, maxBuckets);
+    }
+
+    @Override
+    public VehicleChangeFeed getChangesSince(long since, VehicleChangeCursor after, int limit) {
+        return delegate.getChangesSince(since, after, limit);
+    }
+
+    @Override
+    public Optional<Vehicle> getVehicleByVin(String vin) {
+        if (!isCacheable()) {
+            return delegate.getVehicleByVin(vin);
+        }
+
+        Vehicle cached = byVin.get(vin, key -> {
+            Vehicle loaded = delegate.getVehicleByVin(key).orElse(null);
+            if (loaded != null) {
+                cachedVinsById.put(loaded.getId(), key);
+            }
+            return loaded;
+        });
+        return Optional.ofNullable(cached).map(CachingVehicleRepositoryAdapter::copyOf);
+    }
+
+    @Override
+    public Optional<Long> getVehicleVersionByVin(String vin) {
+        return delegate.getVehicleVersionByVin(vin);
+    }
+
+    // The version must come from the same read as the vehicle, so versioned reads never use the cache
+    @Override
+    public Optional<VehicleChange> getVersionedVehicleByVin(String vin) {
+        return delegate.getVersionedVehicleByVin(vin);
+    }
+
+    @Override
+    public Optional<FindVehicleDTO> getVehicleSummaryByVin(String vin) {
+        Vehicle cached = isCacheable() ? byVin.getIfPresent(vin) : null;
+        if (cached != null) {
+            return Optional.of(new FindVehicleDTO(cached.getId(), cached.getVin(), cached.getStatus(), cached.getPrice()));
+        }
+
+        return delegate.getVehicleSummaryByVin(vin);
+    }
+
+    @Override
+    public Optional<Vehicle> getVehicleById(UUID id) {
+        if (!isCacheable()) {
+            return delegate.getVehicleById(id);
+        }
+
+        Vehicle cached = byId.get(id, key -> delegate.getVehicleById(key).orElse(null));
+        return Optional.ofNullable(cached).map(CachingVehicleRepositoryAdapter::copyOf);
+    }
+
+    @Override
+    public Vehicle saveVehicle(Vehicle vehicle) {
+        Vehicle saved = delegate.saveVehicle(vehicle);
+        invalidate(vehicle.getId(), vehicle.getVin());
+        invalidate(saved.getId(), saved.getVin());
+        invalidateAfterCompletion(saved.getId(), saved.getVin());
+        // an update may have moved the vehicle out of another status list
+        if (vehicle.getId() == null) {
+            bumpCatalog(() -> catalogVersions.bump(saved.getStatus()));
+        } else {
+            bumpCatalog(catalogVersions::bumpAll);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Vehicle> saveVehicles(List<Vehicle> vehicles) {
+        List<Vehicle> saved = delegate.saveVehicles(vehicles);
+        saved.forEach(vehicle -> invalidate(vehicle.getId(), vehicle.getVin()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    saved.forEach(vehicle -> invalidate(vehicle.getId(), vehicle.getVin()));
+                }
+            });
+        }
+        bumpCatalog(() -> saved.stream().map(Vehicle::getStatus).distinct().forEach(catalogVersions::bump));
+        return saved;
+    }
+
+    @Override
+    public Set<String> findExistingVins(Collection<String> vins) {
+        return delegate.findExistingVins(vins);
+    }
+
+    @Override
+    public boolean markAsSoldIfAvailable(UUID id) {
+        boolean updated = delegate.markAsSoldIfAvailable(id);
+        invalidate(id, null);
+        invalidateAfterCompletion(id, null);
+        if (updated) {
+            bumpCatalog(() -> {
+                catalogVersions.bump(VehicleStatus.AVAILABLE);
+                catalogVersions.bump(VehicleStatus.SOLD);
+            });
+        }
+        return updated;
+    }
+
+    // Reads inside a read-write transaction may observe uncommitted rows, so they bypass the cache
+    private boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void invalidateAfterCompletion(UUID id, String vin) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(id, vin);
+            }
+        });
+    }
+
+    // Bumped again after completion so a list read between the write and the commit cannot keep the new version
+    private void bumpCatalog(Runnable bump) {
+        bump.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                bump.run();
+            }
+        });
+    }
+
+    private void invalidate(UUID id, String vin) {
+        if (id != null) {
+            String cachedVin = cachedVinsById.get(id);
+            if (cachedVin != null) {
+                invalidateVin(cachedVin);
+            }
+            byId.invalidate(id);
+        }
+        if (vin != null) {
+            invalidateVin(vin);
+        }
+    }
+
+    private void invalidateVin(String vin) {
+        forgetVin(vin, byVin.asMap().remove(vin));
+    }
+
+    private void forgetVin(String vin, Vehicle vehicle) {
+        if (vehicle != null) {
+            cachedVinsById.remove(vehicle.getId(), vin);
+        }
+    }
+
+    private static Vehicle copyOf(Vehicle vehicle) {
+        return new Vehicle(
+                vehicle.getId(),
+                vehicle.getMake(),
+                vehicle.getModel(),
+                vehicle.getYear(),
+                vehicle.getVin(),
+                vehicle.getColor(),
+                vehicle.getStatus(),
+                vehicle.getPrice()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Hibernate's second-level cache counters for the vehicle regions: the entity region, the VIN natural-id
+ * region and the status listing query region. Counts only move while {@code hibernate.generate_statistics} is on.
+ */
+public class VehicleCacheRegionMetrics {
+    public static final String REQUESTS_METRIC = "dealership.vehicles.l2-cache.requests";
+    public static final String HIT_RATIO_METRIC = "dealership.vehicles.l2-cache.hit-ratio";
+    static final List<String> REGIONS = List.of(
+            VehicleEntity.CACHE_REGION,
+            VehicleEntity.NATURAL_ID_CACHE_REGION,
+            VehicleEntity.STATUS_QUERY_CACHE_REGION
+    );
+
+    private final Statistics statistics;
+
+    public VehicleCacheRegionMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            FunctionCounter.builder(REQUESTS_METRIC, this, metrics -> metrics.count(region, CacheRegionStatistics::getHitCount))
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder(REQUESTS_METRIC, this, metrics -> metrics.count(region, CacheRegionStatistics::getMissCount))
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            Gauge.builder(HIT_RATIO_METRIC, this, metrics -> metrics.hitRatio(region))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    double hitRatio(String region) {
+        long hits = count(region, CacheRegionStatistics::getHitCount);
+        long requests = hits + count(region, CacheRegionStatistics::getMissCount);
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private long count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+}
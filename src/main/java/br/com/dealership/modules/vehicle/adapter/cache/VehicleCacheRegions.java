@@ -0,0 +1,54 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the JCache manager behind Hibernate's second-level cache from {@value #CONFIG}, then sets the after-write
+ * expiry of every expiring region to the vehicle cache TTL, so one setting bounds how stale any replica's copy gets.
+ */
+public final class VehicleCacheRegions {
+    public static final String CONFIG = "hibernate-jcache.conf";
+    static final List<String> EXPIRING_REGIONS;
+
+    static {
+        List<String> regions = new ArrayList<>(VehicleCacheRegionMetrics.REGIONS);
+        regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        EXPIRING_REGIONS = List.copyOf(regions);
+    }
+
+    private VehicleCacheRegions() {
+    }
+
+    public static CacheManager cacheManager(Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Vehicle cache TTL must be positive");
+        }
+
+        CacheManager cacheManager;
+        try {
+            cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                    .getCacheManager(new ClassPathResource(CONFIG).getURI(), VehicleCacheRegions.class.getClassLoader());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + CONFIG, e);
+        }
+
+        // the regions are created here from the file, and Hibernate picks them up by name instead of creating its own
+        for (String region : EXPIRING_REGIONS) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> cache = cacheManager.getCache(region)
+                    .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            cache.policy().expireAfterWrite()
+                    .orElseThrow(() -> new IllegalStateException(region + " has no after-write expiration in " + CONFIG))
+                    .setExpiresAfter(ttl);
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleCatalogVersionPort;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of each status list, bumped by {@link CachingVehicleRepositoryAdapter} on every write, so list
+ * requests can be answered with 304 without a query. Writes made by other replicas are not seen here; the version
+ * therefore also rolls over every {@code maxAge}, bounding that staleness the same way the vehicle cache TTL does.
+ * The instance token keeps versions handed out before a restart from matching the restarted counters.
+ */
+public class VehicleCatalogVersions implements VehicleCatalogVersionPort {
+    private final Map<VehicleStatus, AtomicLong> versions = new EnumMap<>(VehicleStatus.class);
+    private final String instance = Long.toString(UUID.randomUUID().getMostSignificantBits() >>> 1, 36);
+    private final long maxAgeMillis;
+    private final Clock clock;
+
+    public VehicleCatalogVersions(Duration maxAge, Clock clock) {
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Catalog version max age must be positive");
+        }
+
+        this.maxAgeMillis = maxAge.toMillis();
+        this.clock = clock;
+        for (VehicleStatus status : VehicleStatus.values()) {
+            versions.put(status, new AtomicLong());
+        }
+    }
+
+    @Override
+    public String getCatalogVersion(VehicleStatus status) {
+        long epoch = clock.millis() / maxAgeMillis;
+        return status.name().toLowerCase() + "-" + instance + "-" + epoch + "-" + versions.get(status).get();
+    }
+
+    public void bump(VehicleStatus status) {
+        versions.get(status).incrementAndGet();
+    }
+
+    public void bumpAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.dealership.modules.vehicle.adapter.database.models;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by random bits, so ids created
+ * later sort after earlier ones and new rows land on the right edge of the primary key index. The 12-bit
+ * {@code rand_a} field is a counter seeded randomly every millisecond, which keeps ids monotonic within this
+ * generator even when many are created in the same millisecond or the clock steps back.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private final Clock clock;
+    private long lastMillis = -1;
+    private int counter;
+
+    public TimeOrderedUuidGenerator() {
+        this(Clock.systemUTC());
+    }
+
+    TimeOrderedUuidGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    public UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis;
+        int sequence;
+
+        synchronized (this) {
+            long now = clock.millis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = random.nextInt(MAX_COUNTER / 2 + 1);
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+
+        long mostSigBits = (millis << 16) | 0x7000L | sequence;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
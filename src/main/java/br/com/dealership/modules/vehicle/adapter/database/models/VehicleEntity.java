@@ -2,22 +2,35 @@ package br.com.dealership.modules.vehicle.adapter.database.models;
 
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", uniqueConstraints = @UniqueConstraint(name = VehicleEntity.VIN_UNIQUE_CONSTRAINT, columnNames = "vin"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = VehicleEntity.CACHE_REGION)
+@NaturalIdCache(region = VehicleEntity.NATURAL_ID_CACHE_REGION)
 public class VehicleEntity {
+    public static final String CACHE_REGION = "vehicles";
+    public static final String NATURAL_ID_CACHE_REGION = "vehicles-by-vin";
+    public static final String STATUS_QUERY_CACHE_REGION = "vehicles-by-status";
+    public static final String VIN_UNIQUE_CONSTRAINT = "uk_vehicles_vin";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     private String make;
     private String model;
     private int year;
 
-    @Column(nullable = false, unique = true)
+    @NaturalId
+    @Column(nullable = false)
     private String vin;
 
     private String color;
@@ -27,6 +40,9 @@ public class VehicleEntity {
 
     private BigDecimal price;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     public VehicleEntity() {
     }
 
@@ -104,4 +120,12 @@ public class VehicleEntity {
     public void setPrice(BigDecimal price) {
         this.price = price;
     }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
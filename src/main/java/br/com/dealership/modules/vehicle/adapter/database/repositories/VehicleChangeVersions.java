@@ -0,0 +1,90 @@
+package br.com.dealership.modules.vehicle.adapter.database.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Allocates {@code change_version} values and tells how far the change feed can be read without skipping a write.
+ * A version is taken from the sequence inside the writing transaction, so a slow write can commit after a faster one
+ * that took a higher version. On Postgres every writer first takes a transaction-scoped shared advisory lock (its
+ * lease) keyed by the next value the sequence will hand out, and only then calls nextval; the lease is released at
+ * commit or rollback. The safe version is therefore one below the lowest lease still held, or the last allocated
+ * version when no write is open. Rows inserted outside the application through the column default take no lease.
+ */
+public class VehicleChangeVersions {
+    static final String SEQUENCE = "vehicle_change_version_seq";
+
+    public static final String LEASED_NEXT_VERSION_SQL = """
+            WITH lease AS MATERIALIZED (
+                SELECT 1 FROM vehicle_change_version_seq s,
+                    pg_advisory_xact_lock_shared(CASE WHEN s.is_called THEN s.last_value + 1 ELSE s.last_value END)
+            )
+            SELECT nextval('vehicle_change_version_seq') FROM lease
+            """;
+
+    public static final String ALLOCATED_VERSION_SQL = """
+            SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM vehicle_change_version_seq
+            """;
+
+    // bigint advisory keys are split into classid (high 32 bits) and objid (low 32 bits), with objsubid 1
+    public static final String LOWEST_LEASE_SQL = """
+            SELECT min(lease) FROM (
+                SELECT (l.classid::bigint << 32) | l.objid::bigint AS lease
+                FROM pg_locks l JOIN pg_database d ON d.oid = l.database
+                WHERE l.locktype = 'advisory' AND l.objsubid = 1 AND l.granted AND d.datname = current_database()
+            ) leases
+            WHERE lease <= :allocated
+            """;
+
+    private final EntityManager entityManager;
+    private final boolean leased;
+    private final String nextVersionSql;
+
+    public VehicleChangeVersions(EntityManager entityManager) {
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        this.entityManager = entityManager;
+        this.leased = dialect instanceof PostgreSQLDialect;
+        this.nextVersionSql = leased
+                ? LEASED_NEXT_VERSION_SQL
+                : dialect.getSequenceSupport().getSequenceNextValString(SEQUENCE);
+    }
+
+    public long next() {
+        return ((Number) entityManager.createNativeQuery(nextVersionSql).getSingleResult()).longValue();
+    }
+
+    /**
+     * Highest version at or below which every write has either committed or rolled back. The sequence is read before
+     * the leases: a lease at or below the allocated value can only have been taken before that read, so a write
+     * holding a version up to it is either still listed or already committed.
+     */
+    public long safeVersion() {
+        return read().safeVersion();
+    }
+
+    Snapshot read() {
+        if (!leased) {
+            // no advisory locks outside Postgres (H2 in tests): the newest committed version stands in, which is
+            // exact only while writes do not overlap
+            long newest = entityManager.createQuery("SELECT COALESCE(MAX(v.changeVersion), 0L) FROM VehicleEntity v", Long.class)
+                    .getSingleResult();
+            return new Snapshot(newest, null);
+        }
+
+        long allocated = ((Number) entityManager.createNativeQuery(ALLOCATED_VERSION_SQL).getSingleResult()).longValue();
+        Number lowestLease = (Number) entityManager.createNativeQuery(LOWEST_LEASE_SQL)
+                .setParameter("allocated", allocated)
+                .getSingleResult();
+        return new Snapshot(allocated, lowestLease == null ? null : lowestLease.longValue());
+    }
+
+    record Snapshot(long allocated, Long lowestLease) {
+
+        long safeVersion() {
+            return lowestLease == null ? allocated : Math.min(allocated, lowestLease - 1);
+        }
+    }
+}
@@ -1,14 +1,97 @@
 package br.com.dealership.modules.vehicle.adapter.database.repositories;
 
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
 import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface VehicleRepository extends JpaRepository<VehicleEntity, UUID> {
-    Optional<VehicleEntity> findByVin(String vin);
+public interface VehicleRepository extends JpaRepository<VehicleEntity, UUID>, JpaSpecificationExecutor<VehicleEntity> {
+    @Query("""
+            SELECT new br.com.dealership.modules.shared.dtos.FindVehicleDTO(v.id, v.vin, v.status, v.price)
+            FROM VehicleEntity v
+            WHERE v.vin = :vin
+            """)
+    Optional<FindVehicleDTO> findSummaryByVin(@Param("vin") String vin);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VehicleEntity.STATUS_QUERY_CACHE_REGION)
+    })
     List<VehicleEntity> findAllByStatusOrderByPriceAsc(VehicleStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VehicleEntity.STATUS_QUERY_CACHE_REGION)
+    })
+    List<VehicleEntity> findAllByStatusOrderByPriceAscIdAsc(VehicleStatus status, Limit limit);
+
+    @Query("SELECT v.vin FROM VehicleEntity v WHERE v.vin IN :vins")
+    Set<String> findExistingVins(@Param("vins") Collection<String> vins);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT v.vin FROM VehicleEntity v")
+    Stream<String> streamAllVins();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VehicleEntity.STATUS_QUERY_CACHE_REGION)
+    })
+    @Query("""
+            SELECT v FROM VehicleEntity v
+            WHERE v.status = :status
+              AND (v.price > :price OR (v.price = :price AND v.id > :id))
+            ORDER BY v.price ASC, v.id ASC
+            """)
+    List<VehicleEntity> findAllByStatusAfter(@Param("status") VehicleStatus status,
+                                             @Param("price") BigDecimal price,
+                                             @Param("id") UUID id,
+                                             Limit limit);
+
+    @Query("""
+            SELECT v FROM VehicleEntity v
+            WHERE v.changeVersion > :since AND v.changeVersion <= :until
+            ORDER BY v.changeVersion ASC, v.id ASC
+            """)
+    List<VehicleEntity> findChangedBetween(@Param("since") long since,
+                                           @Param("until") long until,
+                                           Limit limit);
+
+    @Query("""
+            SELECT v FROM VehicleEntity v
+            WHERE (v.changeVersion > :changeVersion OR (v.changeVersion = :changeVersion AND v.id > :id))
+              AND v.changeVersion <= :until
+            ORDER BY v.changeVersion ASC, v.id ASC
+            """)
+    List<VehicleEntity> findChangedAfter(@Param("changeVersion") long changeVersion,
+                                         @Param("id") UUID id,
+                                         @Param("until") long until,
+                                         Limit limit);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE VehicleEntity v SET v.status = :newStatus, v.changeVersion = :changeVersion
+            WHERE v.id = :id AND v.status = :expectedStatus
+            """)
+    int updateStatusIfCurrent(@Param("id") UUID id,
+                              @Param("expectedStatus") VehicleStatus expectedStatus,
+                              @Param("newStatus") VehicleStatus newStatus,
+                              @Param("changeVersion") long changeVersion);
 }
@@ -1,26 +1,59 @@
 package br.com.dealership.modules.vehicle.adapter.database.repositories;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.FacetCount;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFacets;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.exception.DuplicateVinException;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import br.com.dealership.modules.vehicle.mapper.VehicleMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public class VehicleRepositoryAdapter implements VehicleRepositoryPort {
     private final VehicleRepository vehicleRepository;
     private final VehicleMapper vehicleMapper;
+    private final EntityManager entityManager;
+    private final VehicleChangeVersions changeVersions;
 
-    public VehicleRepositoryAdapter(VehicleRepository vehicleRepository, VehicleMapper vehicleMapper) {
+    public VehicleRepositoryAdapter(VehicleRepository vehicleRepository, VehicleMapper vehicleMapper, EntityManager entityManager) {
         this.vehicleRepository = vehicleRepository;
         this.vehicleMapper = vehicleMapper;
+        this.entityManager = entityManager;
+        this.changeVersions = new VehicleChangeVersions(entityManager);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Vehicle> getAllByStatus(VehicleStatus status) {
         return vehicleRepository.findAllByStatusOrderByPriceAsc(status).stream()
                 .map(vehicleMapper::mapToDomain)
@@ -28,11 +61,121 @@ public class VehicleRepositoryAdapter implements VehicleRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Vehicle> getPageByStatus(VehicleStatus status, VehicleCursor after, int limit) {
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<VehicleEntity> entities = after == null
+                ? vehicleRepository.findAllByStatusOrderByPriceAscIdAsc(status, fetchLimit)
+                : vehicleRepository.findAllByStatusAfter(status, after.price(), after.id(), fetchLimit);
+
+        boolean hasNext = entities.size() > limit;
+        List<Vehicle> vehicles = entities.stream()
+                .limit(limit)
+                .map(vehicleMapper::mapToDomain)
+                .toList();
+
+        String nextCursor = hasNext ? VehicleCursor.of(vehicles.getLast()).encode() : null;
+        return new CursorPage<>(vehicles, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Vehicle> search(VehicleFilter filter, VehicleSort sort, VehicleSearchCursor after, int limit) {
+        List<VehicleEntity> entities = vehicleRepository.findBy(
+                VehicleSpecifications.matching(filter, sort, after),
+                query -> query.sortBy(VehicleSpecifications.keysetOrder(sort)).limit(limit + 1).all()
+        );
+
+        boolean hasNext = entities.size() > limit;
+        List<Vehicle> vehicles = entities.stream()
+                .limit(limit)
+                .map(vehicleMapper::mapToDomain)
+                .toList();
+
+        String nextCursor = hasNext ? VehicleSearchCursor.of(sort, vehicles.getLast()).encode() : null;
+        return new CursorPage<>(vehicles, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VehicleChangeFeed getChangesSince(long since, VehicleChangeCursor after, int limit) {
+        long syncVersion = changeVersions.safeVersion();
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<VehicleEntity> entities = after == null
+                ? vehicleRepository.findChangedBetween(since, syncVersion, fetchLimit)
+                : vehicleRepository.findChangedAfter(after.version(), after.id(), syncVersion, fetchLimit);
+
+        boolean hasNext = entities.size() > limit;
+        List<VehicleChange> changes = entities.stream()
+                .limit(limit)
+                .map(entity -> new VehicleChange(entity.getChangeVersion(), vehicleMapper.mapToDomain(entity)))
+                .toList();
+
+        String nextCursor = hasNext ? VehicleChangeCursor.of(changes.getLast()).encode() : null;
+        return new VehicleChangeFeed(changes, nextCursor, syncVersion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VehicleFacets getFacets(VehicleFilter filter, int maxBuckets) {
+        return new VehicleFacets(
+                countBy("make", filter, maxBuckets),
+                countBy("model", filter, maxBuckets),
+                countBy("year", filter, maxBuckets)
+        );
+    }
+
+    private List<FacetCount> countBy(String attribute, VehicleFilter filter, int maxBuckets) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<VehicleEntity> root = query.from(VehicleEntity.class);
+        Expression<Object> bucket = root.get(attribute);
+        Expression<Long> count = cb.count(root);
+
+        query.multiselect(bucket, count)
+                .where(VehicleSpecifications.matching(filter).toPredicate(root, query, cb))
+                .groupBy(bucket)
+                .orderBy(cb.desc(count), cb.asc(bucket));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(maxBuckets)
+                .getResultList().stream()
+                .map(tuple -> new FacetCount(Objects.toString(tuple.get(0), null), tuple.get(1, Long.class)))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Vehicle> getVehicleByVin(String id) {
-        return vehicleRepository.findByVin(id)
+        return findEntityByVin(id)
                 .map(vehicleMapper::mapToDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getVehicleVersionByVin(String vin) {
+        return findEntityByVin(vin)
+                .map(VehicleEntity::getChangeVersion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VehicleChange> getVersionedVehicleByVin(String vin) {
+        return findEntityByVin(vin)
+                .map(entity -> new VehicleChange(entity.getChangeVersion(), vehicleMapper.mapToDomain(entity)));
+    }
+
+    private Optional<VehicleEntity> findEntityByVin(String vin) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(VehicleEntity.class)
+                .loadOptional(vin);
+    }
+
+    @Override
+    public Optional<FindVehicleDTO> getVehicleSummaryByVin(String vin) {
+        return vehicleRepository.findSummaryByVin(vin);
+    }
+
     @Override
     public Optional<Vehicle> getVehicleById(UUID id) {
         return vehicleRepository.findById(id)
@@ -41,10 +184,47 @@ public class VehicleRepositoryAdapter implements VehicleRepositoryPort {
 
     @Override
     public Vehicle saveVehicle(Vehicle vehicle) {
-        return vehicleMapper.mapToDomain(
-                vehicleRepository.save(
-                        vehicleMapper.mapToEntity(vehicle)
-                )
-        );
+        VehicleEntity entity = vehicleMapper.mapToEntity(vehicle);
+        entity.setChangeVersion(changeVersions.next());
+        // flushed here so a duplicate VIN fails inside the caller rather than at the service's commit
+        try {
+            return vehicleMapper.mapToDomain(vehicleRepository.saveAndFlush(entity));
+        } catch (DataIntegrityViolationException e) {
+            if (violatesUniqueVin(e)) {
+                throw new DuplicateVinException(vehicle.getVin());
+            }
+            throw e;
+        }
+    }
+
+    // H2 reports the constraint through its backing index name, so the name is matched as a substring
+    private static boolean violatesUniqueVin(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(VehicleEntity.VIN_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    // one version per batch: the batch commits atomically, and the feed pages by (change_version, id)
+    @Override
+    public List<Vehicle> saveVehicles(List<Vehicle> vehicles) {
+        long changeVersion = changeVersions.next();
+        List<VehicleEntity> entities = vehicles.stream().map(vehicleMapper::mapToEntity).toList();
+        entities.forEach(entity -> entity.setChangeVersion(changeVersion));
+        return vehicleRepository.saveAll(entities).stream()
+                .map(vehicleMapper::mapToDomain)
+                .toList();
+    }
+
+    @Override
+    public Set<String> findExistingVins(Collection<String> vins) {
+        return vehicleRepository.findExistingVins(vins);
+    }
+
+    @Override
+    public boolean markAsSoldIfAvailable(UUID id) {
+        return vehicleRepository.updateStatusIfCurrent(id, VehicleStatus.AVAILABLE, VehicleStatus.SOLD, changeVersions.next()) == 1;
     }
 }
@@ -0,0 +1,84 @@
+package br.com.dealership.modules.vehicle.adapter.database.repositories;
+
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+public final class VehicleSpecifications {
+
+    private VehicleSpecifications() {
+    }
+
+    public static Sort keysetOrder(VehicleSort sort) {
+        Sort.Direction direction = sort.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, sort.getProperty(), "id");
+    }
+
+    public static Specification<VehicleEntity> matching(VehicleFilter filter) {
+        return (root, query, cb) -> cb.and(filterPredicates(filter, root, cb).toArray(Predicate[]::new));
+    }
+
+    public static Specification<VehicleEntity> matching(VehicleFilter filter, VehicleSort sort, VehicleSearchCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = filterPredicates(filter, root, cb);
+            if (after != null) {
+                predicates.add(sort.getProperty().equals("price")
+                        ? after(cb, root.<BigDecimal>get("price"), after.value(), root.<UUID>get("id"), after.id(), sort.isAscending())
+                        : after(cb, root.<Integer>get("year"), after.value().intValueExact(), root.<UUID>get("id"), after.id(), sort.isAscending()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // make, model and color match case-insensitively; idx_vehicles_status_make_model_price_id indexes lower(make), lower(model)
+    private static List<Predicate> filterPredicates(VehicleFilter filter, Root<VehicleEntity> root, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.status() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.make() != null) {
+            predicates.add(cb.equal(cb.lower(root.get("make")), filter.make().toLowerCase(Locale.ROOT)));
+        }
+        if (filter.model() != null) {
+            predicates.add(cb.equal(cb.lower(root.get("model")), filter.model().toLowerCase(Locale.ROOT)));
+        }
+        if (filter.color() != null) {
+            predicates.add(cb.equal(cb.lower(root.get("color")), filter.color().toLowerCase(Locale.ROOT)));
+        }
+        if (filter.minYear() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("year"), filter.minYear()));
+        }
+        if (filter.maxYear() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("year"), filter.maxYear()));
+        }
+        if (filter.minPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("price"), filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.maxPrice()));
+        }
+
+        return predicates;
+    }
+
+    private static <T extends Comparable<? super T>> Predicate after(CriteriaBuilder cb, Path<T> value, T lastValue,
+                                                                     Path<UUID> id, UUID lastId, boolean ascending) {
+        return ascending
+                ? cb.or(cb.greaterThan(value, lastValue), cb.and(cb.equal(value, lastValue), cb.greaterThan(id, lastId)))
+                : cb.or(cb.lessThan(value, lastValue), cb.and(cb.equal(value, lastValue), cb.lessThan(id, lastId)));
+    }
+}
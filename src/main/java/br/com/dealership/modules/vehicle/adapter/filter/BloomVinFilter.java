@@ -0,0 +1,107 @@
+package br.com.dealership.modules.vehicle.adapter.filter;
+
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every VIN stored in {@code vehicles}. A negative answer is exact, so the duplicate check can skip its
+ * query; a positive one may be a false positive at roughly the configured rate and falls back to the database. Until
+ * {@link #load(Stream)} has run every VIN is reported as possibly known.
+ */
+public class BloomVinFilter implements KnownVinsPort {
+    public static final String LOOKUPS_METRIC = "dealership.vehicles.vin-filter.lookups";
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean loaded;
+    private Counter absent;
+    private Counter maybePresent;
+
+    public BloomVinFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("VIN filter needs positive expected insertions and a false positive rate between 0 and 1");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        absent = registry.counter(LOOKUPS_METRIC, "result", "absent");
+        maybePresent = registry.counter(LOOKUPS_METRIC, "result", "maybe-present");
+    }
+
+    public void load(Stream<String> vins) {
+        vins.forEach(this::add);
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    public boolean mightContain(String vin) {
+        if (!loaded) {
+            return true;
+        }
+
+        long hash = hash(vin);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                count(absent);
+                return false;
+            }
+        }
+        count(maybePresent);
+        return true;
+    }
+
+    @Override
+    public void add(String vin) {
+        long hash = hash(vin);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    // FNV-1a over the UTF-16 code units followed by the MurmurHash3 finalizer to spread the bits over both halves
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
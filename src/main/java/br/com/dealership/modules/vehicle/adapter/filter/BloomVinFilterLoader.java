@@ -0,0 +1,37 @@
+package br.com.dealership.modules.vehicle.adapter.filter;
+
+import br.com.dealership.datasource.PrimaryReads;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.stream.Stream;
+
+public class BloomVinFilterLoader {
+    private static final Logger log = LoggerFactory.getLogger(BloomVinFilterLoader.class);
+
+    private final VehicleRepository vehicleRepository;
+    private final BloomVinFilter filter;
+    private final TransactionOperations readOnlyTransactions;
+
+    public BloomVinFilterLoader(VehicleRepository vehicleRepository, BloomVinFilter filter, TransactionOperations readOnlyTransactions) {
+        this.vehicleRepository = vehicleRepository;
+        this.filter = filter;
+        this.readOnlyTransactions = readOnlyTransactions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        // from the primary: VINs a lagging replica has not seen yet would be reported as absent
+        PrimaryReads.run(() -> readOnlyTransactions.executeWithoutResult(status -> {
+            try (Stream<String> vins = vehicleRepository.streamAllVins()) {
+                filter.load(vins);
+            }
+        }));
+        log.info("Loaded VIN filter in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -1,8 +1,16 @@
 package br.com.dealership.modules.vehicle.adapter.http;
 
+import br.com.dealership.datasource.PrimaryReads;
+import br.com.dealership.modules.shared.http.ETags;
 import br.com.dealership.modules.vehicle.adapter.http.dto.CreateVehicleDTO;
 import br.com.dealership.modules.vehicle.adapter.http.dto.UpdateVehicleDTO;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportReport;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import br.com.dealership.modules.vehicle.domain.exception.VehicleNotFoundException;
 import br.com.dealership.modules.vehicle.domain.ports.in.VehicleServicePort;
@@ -12,14 +20,23 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import br.com.dealership.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,13 +44,20 @@ import java.util.UUID;
 @RequestMapping("/api/v1/vehicles")
 @Tag(name = "Vehicles", description = "Vehicle management endpoints")
 public class VehicleController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String SYNC_VERSION_HEADER = "X-Sync-Version";
 
     private final VehicleServicePort vehicleServicePort;
     private final VehicleMapper vehicleMapper;
+    private final ObjectMapper objectMapper;
+    private final VehicleListResponseCache listResponseCache;
 
-    public VehicleController(VehicleServicePort vehicleServicePort, VehicleMapper vehicleMapper) {
+    public VehicleController(VehicleServicePort vehicleServicePort, VehicleMapper vehicleMapper, ObjectMapper objectMapper,
+                             VehicleListResponseCache listResponseCache) {
         this.vehicleServicePort = vehicleServicePort;
         this.vehicleMapper = vehicleMapper;
+        this.objectMapper = objectMapper;
+        this.listResponseCache = listResponseCache;
     }
 
     @PostMapping()
@@ -67,14 +91,52 @@ public class VehicleController {
         return ResponseEntity.ok(createdVehicle);
     }
 
+    @PostMapping(value = "/import", consumes = {VehicleImportReader.NDJSON, VehicleImportReader.CSV})
+    @PreAuthorize("hasRole('Admin')")
+    @Operation(summary = "Import vehicles in bulk", description = "Imports vehicles from a streamed NDJSON file (one vehicle object per line) "
+            + "or a CSV file with a make,model,year,vin,color,status,price header. Rows are validated and written in chunks; "
+            + "the report lists the outcome of every row")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import processed; see the per-row report",
+                    content = @Content(schema = @Schema(implementation = VehicleImportReport.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unreadable CSV header",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin role required",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<VehicleImportReport> importVehicles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        Reader reader = new InputStreamReader(body, contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset());
+        VehicleImportReader lines = contentType.isCompatibleWith(MediaType.parseMediaType(VehicleImportReader.CSV))
+                ? VehicleImportReader.csv(reader)
+                : VehicleImportReader.ndjson(reader, objectMapper.reader());
+        return ResponseEntity.ok(vehicleServicePort.importVehicles(lines));
+    }
+
     @GetMapping("/{vin}")
-    @Operation(summary = "Get vehicle by VIN", description = "Retrieves a vehicle by its VIN (Vehicle Identification Number)")
+    @Operation(summary = "Get vehicle by VIN", description = "Retrieves a vehicle by its VIN (Vehicle Identification Number). "
+            + "The response carries a strong ETag that changes with every write to the vehicle; send it back in If-None-Match "
+            + "to get 304 while the vehicle is unchanged")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Vehicle found",
                     content = @Content(schema = @Schema(implementation = Vehicle.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Vehicle unchanged since the ETag given in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Vehicle not found",
@@ -87,34 +149,144 @@ public class VehicleController {
             )
     })
     public ResponseEntity<Vehicle> getVehicleByVin(
-            @Parameter(description = "Vehicle Identification Number") @PathVariable String vin) {
-        Vehicle vehicle = vehicleServicePort.getVehicleByVin(vin)
+            @Parameter(description = "Vehicle Identification Number") @PathVariable String vin,
+            @Parameter(description = "ETag of a previously received response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Long version = vehicleServicePort.getVehicleVersionByVin(vin).orElse(null);
+            if (version != null && ETags.matches(ifNoneMatch, ETags.strong(version))) {
+                return ETags.notModified(ETags.strong(version));
+            }
+        }
+
+        VehicleChange vehicle = vehicleServicePort.getVersionedVehicleByVin(vin)
                 .orElseThrow(() -> new VehicleNotFoundException(vin, "VIN"));
-        return ResponseEntity.ok(vehicle);
+        return ResponseEntity.ok()
+                .eTag(ETags.strong(vehicle.version()))
+                .cacheControl(ETags.REVALIDATE)
+                .body(vehicle.vehicle());
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search vehicles", description = "Retrieves a page of vehicles matching the given filters in the chosen order, "
+            + "plus vehicle counts per make, model and year for the same filters. Make, model and color match case-insensitively. "
+            + "When more results exist, the cursor for the next page is returned in nextCursor and in the " + NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of matching vehicles with facet counts",
+                    content = @Content(schema = @Schema(implementation = VehicleSearchResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter, sort, cursor or limit parameter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<VehicleSearchResult> searchVehicles(
+            @Parameter(description = "Manufacturer") @RequestParam(required = false) String make,
+            @Parameter(description = "Model") @RequestParam(required = false) String model,
+            @Parameter(description = "Minimum manufacturing year (inclusive)") @RequestParam(required = false) Integer minYear,
+            @Parameter(description = "Maximum manufacturing year (inclusive)") @RequestParam(required = false) Integer maxYear,
+            @Parameter(description = "Minimum price (inclusive)") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price (inclusive)") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Color") @RequestParam(required = false) String color,
+            @Parameter(description = "Vehicle status") @RequestParam(required = false) VehicleStatus status,
+            @Parameter(description = "Sort order") @RequestParam(defaultValue = "PRICE_ASC") VehicleSort sort,
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of vehicles per page (1-500)") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Whether to compute facet counts") @RequestParam(defaultValue = "true") boolean facets) {
+        VehicleFilter filter = new VehicleFilter(make, model, minYear, maxYear, minPrice, maxPrice, color, status);
+        VehicleSearchResult result = vehicleServicePort.searchVehicles(filter, sort, cursor, limit, facets);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, result.nextCursor());
+        }
+        return response.body(result);
     }
 
     @GetMapping("/available")
-    @Operation(summary = "Get all available vehicles", description = "Retrieves all vehicles with AVAILABLE status")
-    @ApiResponse(
-            responseCode = "200",
-            description = "List of available vehicles",
-            content = @Content(schema = @Schema(implementation = Vehicle.class))
-    )
-    public ResponseEntity<List<Vehicle>> getAllAvailableVehicles() {
-        List<Vehicle> availableVehicles = vehicleServicePort.getAllVehiclesByStatus(VehicleStatus.AVAILABLE);
-        return ResponseEntity.ok(availableVehicles);
+    @Operation(summary = "Get available vehicles", description = "Retrieves a page of vehicles with AVAILABLE status ordered by price. "
+            + "When more results exist, the cursor for the next page is returned in the " + NEXT_CURSOR_HEADER + " header. "
+            + "The response carries a weak ETag that changes whenever a AVAILABLE vehicle is written, and is gzip-encoded "
+            + "when the client accepts it")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of available vehicles",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Vehicle.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "No AVAILABLE vehicle written since the ETag given in If-None-Match"
+            )
+    })
+    public ResponseEntity<byte[]> getAllAvailableVehicles(
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of vehicles per page (1-500)") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "ETag of a previously received response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getVehiclesByStatus(VehicleStatus.AVAILABLE, cursor, limit, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/sold")
-    @Operation(summary = "Get all sold vehicles", description = "Retrieves all vehicles with SOLD status")
-    @ApiResponse(
-            responseCode = "200",
-            description = "List of sold vehicles",
-            content = @Content(schema = @Schema(implementation = Vehicle.class))
-    )
-    public ResponseEntity<List<Vehicle>> getAllSoldVehicles() {
-        List<Vehicle> soldVehicles = vehicleServicePort.getAllVehiclesByStatus(VehicleStatus.SOLD);
-        return ResponseEntity.ok(soldVehicles);
+    @Operation(summary = "Get sold vehicles", description = "Retrieves a page of vehicles with SOLD status ordered by price. "
+            + "When more results exist, the cursor for the next page is returned in the " + NEXT_CURSOR_HEADER + " header. "
+            + "The response carries a weak ETag that changes whenever a SOLD vehicle is written, and is gzip-encoded "
+            + "when the client accepts it")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of sold vehicles",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = Vehicle.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "No SOLD vehicle written since the ETag given in If-None-Match"
+            )
+    })
+    public ResponseEntity<byte[]> getAllSoldVehicles(
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of vehicles per page (1-500)") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "ETag of a previously received response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return getVehiclesByStatus(VehicleStatus.SOLD, cursor, limit, ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get vehicle changes", description = "Retrieves the vehicles created, updated or sold after the given change version, "
+            + "ordered by version. Each item carries the version of its last change. Versions still held by an open write are "
+            + "left out, so every page returns the version up to which the feed is complete in the " + SYNC_VERSION_HEADER + " header; "
+            + "after the last page, pass that value as since on the next sync. When more results exist, the cursor for the next page "
+            + "is returned in the " + NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of changed vehicles",
+                    content = @Content(schema = @Schema(implementation = VehicleChange.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid since, cursor or limit parameter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<List<VehicleChange>> getVehicleChanges(
+            @Parameter(description = "Change version already synchronized; 0 returns every vehicle") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Opaque cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes per page (1-500)") @RequestParam(defaultValue = "500") int limit) {
+        // the open writes are only visible on the primary, and a lagging replica could miss versions below the mark
+        VehicleChangeFeed page = PrimaryReads.call(() -> vehicleServicePort.getVehicleChanges(since, cursor, limit));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(SYNC_VERSION_HEADER, Long.toString(page.syncVersion()));
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @PutMapping("/{id}")
@@ -151,5 +323,29 @@ public class VehicleController {
         return ResponseEntity.ok(updatedVehicle);
     }
 
+    // The catalog version is read before the page, so the ETag and the cache key are never newer than the vehicles
+    private ResponseEntity<byte[]> getVehiclesByStatus(VehicleStatus status, String cursor, int limit, String ifNoneMatch,
+                                                       String acceptEncoding) {
+        String catalogVersion = vehicleServicePort.getCatalogVersion(status);
+        String etag = ETags.weak(catalogVersion);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
+
+        VehicleListResponseCache.Page page = listResponseCache.get(status, catalogVersion, cursor, limit,
+                () -> vehicleServicePort.getVehiclesByStatus(status, cursor, limit));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(ETags.REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (page.gzip() != null && VehicleListResponseCache.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzip());
+        }
+        return response.body(page.json());
+    }
 
 }
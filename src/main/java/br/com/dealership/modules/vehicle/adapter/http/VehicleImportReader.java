@@ -0,0 +1,207 @@
+package br.com.dealership.modules.vehicle.adapter.http;
+
+import br.com.dealership.modules.vehicle.adapter.http.dto.CreateVehicleDTO;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportLine;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+public abstract class VehicleImportReader implements Iterator<VehicleImportLine> {
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private String pending;
+
+    private VehicleImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    public static VehicleImportReader ndjson(Reader reader, ObjectReader dtoReader) {
+        return new NdjsonReader(reader, dtoReader.forType(CreateVehicleDTO.class));
+    }
+
+    public static VehicleImportReader csv(Reader reader) {
+        return new CsvReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending == null) {
+            String line = readLine();
+            if (line == null) {
+                return false;
+            }
+            if (!line.isBlank()) {
+                pending = line;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public VehicleImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = pending;
+        pending = null;
+        try {
+            return VehicleImportLine.parsed(lineNumber, parse(line));
+        } catch (IllegalArgumentException e) {
+            return VehicleImportLine.unreadable(lineNumber, e.getMessage());
+        }
+    }
+
+    protected abstract Vehicle parse(String line);
+
+    protected String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import file", e);
+        }
+    }
+
+    private static Vehicle vehicle(String make, String model, Integer year, String vin, String color, VehicleStatus status, BigDecimal price) {
+        return new Vehicle(null, make, model, year == null ? 0 : year, vin, color, status, price);
+    }
+
+    private static final class NdjsonReader extends VehicleImportReader {
+        private final ObjectReader dtoReader;
+
+        private NdjsonReader(Reader reader, ObjectReader dtoReader) {
+            super(reader);
+            this.dtoReader = dtoReader;
+        }
+
+        @Override
+        protected Vehicle parse(String line) {
+            CreateVehicleDTO dto;
+            try {
+                dto = dtoReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (dto == null) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            return vehicle(dto.getMake(), dto.getModel(), dto.getYear(), dto.getVin(), dto.getColor(), dto.getStatus(), dto.getPrice());
+        }
+    }
+
+    private static final class CsvReader extends VehicleImportReader {
+        private static final List<String> REQUIRED_COLUMNS = List.of("make", "model", "year", "vin", "status", "price");
+
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final int width;
+
+        private CsvReader(Reader reader) {
+            super(reader);
+            String header = readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV import file is empty");
+            }
+
+            List<String> names = split(header);
+            width = names.size();
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        protected Vehicle parse(String line) {
+            List<String> fields = split(line);
+            if (fields.size() != width) {
+                throw new IllegalArgumentException("Expected " + width + " columns but found " + fields.size());
+            }
+
+            return vehicle(
+                    field(fields, "make"),
+                    field(fields, "model"),
+                    field(fields, "year", Integer::valueOf),
+                    field(fields, "vin"),
+                    field(fields, "color"),
+                    field(fields, "status", value -> VehicleStatus.valueOf(value.toUpperCase(Locale.ROOT))),
+                    field(fields, "price", BigDecimal::new)
+            );
+        }
+
+        private <T> T field(List<String> fields, String column, Function<String, T> parser) {
+            String value = field(fields, column);
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return parser.apply(value);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        // RFC 4180 fields without embedded line breaks: commas inside quotes and doubled quotes are supported
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
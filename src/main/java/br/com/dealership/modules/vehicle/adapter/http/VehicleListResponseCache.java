@@ -0,0 +1,110 @@
+package br.com.dealership.modules.vehicle.adapter.http;
+
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized pages of the status lists, keyed by catalog version. A write moves the catalog to a new version, so the
+ * next request misses and rebuilds its page once; entries of old versions are never read again and age out. Each page
+ * is kept as JSON and, when it is smaller, as gzip, so a hit writes a byte array without touching the database or
+ * Jackson.
+ */
+public class VehicleListResponseCache {
+    public static final String CACHE_NAME = "vehicles.listResponses";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Page> pages;
+
+    public VehicleListResponseCache(ObjectMapper objectMapper, long maximumBytes, Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Page page) -> page.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, CACHE_NAME);
+    }
+
+    public Page get(VehicleStatus status, String catalogVersion, String cursor, int limit, Supplier<CursorPage<Vehicle>> loader) {
+        return pages.get(new Key(status, catalogVersion, cursor, limit), key -> serialize(loader.get()));
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ((name.equals("gzip") || name.equals("*")) && !isRefused(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRefused(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Page serialize(CursorPage<Vehicle> page) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(page.items());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize vehicle list", e);
+        }
+
+        byte[] gzip = gzip(json);
+        return new Page(json, gzip.length < json.length ? gzip : null, page.nextCursor());
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record Key(VehicleStatus status, String catalogVersion, String cursor, int limit) {
+    }
+
+    public record Page(byte[] json, byte[] gzip, String nextCursor) {
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
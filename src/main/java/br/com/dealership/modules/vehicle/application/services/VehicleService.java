@@ -1,13 +1,27 @@
 package br.com.dealership.modules.vehicle.application.services;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import br.com.dealership.modules.vehicle.application.useCases.CreateVehicleUseCase;
 import br.com.dealership.modules.vehicle.application.useCases.GetVehicleByStatusUseCase;
 import br.com.dealership.modules.vehicle.application.useCases.GetVehicleByVinUseCase;
+import br.com.dealership.modules.vehicle.application.useCases.GetVehicleChangesUseCase;
+import br.com.dealership.modules.vehicle.application.useCases.ImportVehiclesUseCase;
+import br.com.dealership.modules.vehicle.application.useCases.SearchVehiclesUseCase;
 import br.com.dealership.modules.vehicle.application.useCases.UpdateVehicleUseCase;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportLine;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportReport;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import br.com.dealership.modules.vehicle.domain.ports.in.VehicleServicePort;
 
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,31 +31,82 @@ public class VehicleService implements VehicleServicePort {
     private final GetVehicleByVinUseCase getVehicleByVinUseCase;
     private final GetVehicleByStatusUseCase getVehicleByStatusUseCase;
     private final UpdateVehicleUseCase updateVehicleUseCase;
+    private final ImportVehiclesUseCase importVehiclesUseCase;
+    private final SearchVehiclesUseCase searchVehiclesUseCase;
+    private final GetVehicleChangesUseCase getVehicleChangesUseCase;
 
-    public VehicleService(CreateVehicleUseCase createVehicleUseCase, GetVehicleByVinUseCase getVehicleByVinUseCase, GetVehicleByStatusUseCase getVehicleByStatusUseCase, UpdateVehicleUseCase updateVehicleUseCase) {
+    public VehicleService(CreateVehicleUseCase createVehicleUseCase, GetVehicleByVinUseCase getVehicleByVinUseCase, GetVehicleByStatusUseCase getVehicleByStatusUseCase, UpdateVehicleUseCase updateVehicleUseCase, ImportVehiclesUseCase importVehiclesUseCase, SearchVehiclesUseCase searchVehiclesUseCase, GetVehicleChangesUseCase getVehicleChangesUseCase) {
         this.createVehicleUseCase = createVehicleUseCase;
         this.getVehicleByVinUseCase = getVehicleByVinUseCase;
         this.getVehicleByStatusUseCase = getVehicleByStatusUseCase;
         this.updateVehicleUseCase = updateVehicleUseCase;
+        this.importVehiclesUseCase = importVehiclesUseCase;
+        this.searchVehiclesUseCase = searchVehiclesUseCase;
+        this.getVehicleChangesUseCase = getVehicleChangesUseCase;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Vehicle> getAllVehiclesByStatus(VehicleStatus status) {
         return getVehicleByStatusUseCase.execute(status);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Vehicle> getVehiclesByStatus(VehicleStatus status, String cursor, int limit) {
+        return getVehicleByStatusUseCase.execute(status, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VehicleChangeFeed getVehicleChanges(long since, String cursor, int limit) {
+        return getVehicleChangesUseCase.execute(since, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VehicleSearchResult searchVehicles(VehicleFilter filter, VehicleSort sort, String cursor, int limit, boolean includeFacets) {
+        return searchVehiclesUseCase.execute(filter, sort, cursor, limit, includeFacets);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Vehicle> getVehicleByVin(String vin) {
         return getVehicleByVinUseCase.execute(vin);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<VehicleChange> getVersionedVehicleByVin(String vin) {
+        return getVehicleByVinUseCase.executeVersioned(vin);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getVehicleVersionByVin(String vin) {
+        return getVehicleByVinUseCase.findVersion(vin);
+    }
+
+    @Override
+    public String getCatalogVersion(VehicleStatus status) {
+        return getVehicleByStatusUseCase.catalogVersion(status);
+    }
+
+    @Override
+    @Transactional
     public Vehicle createVehicle(Vehicle vehicle) {
         return createVehicleUseCase.execute(vehicle);
     }
 
     @Override
+    @Transactional
     public Vehicle updateVehicle(UUID id, Vehicle vehicle) {
         return updateVehicleUseCase.execute(id, vehicle);
     }
+
+    // no transaction here: each chunk commits in its own
+    @Override
+    public VehicleImportReport importVehicles(Iterator<VehicleImportLine> lines) {
+        return importVehiclesUseCase.execute(lines);
+    }
 }
@@ -15,13 +15,6 @@ public class FindAvailableVehicleByIdUseCase implements FindAvailableVehicleById
 
     @Override
     public Optional<FindVehicleDTO> execute(String vehicleVin) {
-        return repository.getVehicleByVin(vehicleVin).map(vehicle ->
-                new FindVehicleDTO(
-                        vehicle.getId(),
-                        vehicle.getVin(),
-                        vehicle.getStatus(),
-                        vehicle.getPrice()
-                )
-        );
+        return repository.getVehicleSummaryByVin(vehicleVin);
     }
 }
@@ -0,0 +1,30 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+
+public class GetVehicleChangesUseCase {
+    private final VehicleRepositoryPort vehicleRepositoryPort;
+
+    public GetVehicleChangesUseCase(VehicleRepositoryPort vehicleRepositoryPort) {
+        this.vehicleRepositoryPort = vehicleRepositoryPort;
+    }
+
+    public VehicleChangeFeed execute(long since, String cursor, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Since must not be negative");
+        }
+
+        if (limit < 1 || limit > GetVehicleByStatusUseCase.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + GetVehicleByStatusUseCase.MAX_PAGE_SIZE);
+        }
+
+        VehicleChangeCursor after = VehicleChangeCursor.decode(cursor);
+        if (after != null && after.version() < since) {
+            throw new IllegalArgumentException("Cursor is older than the requested version");
+        }
+
+        return vehicleRepositoryPort.getChangesSince(since, after, limit);
+    }
+}
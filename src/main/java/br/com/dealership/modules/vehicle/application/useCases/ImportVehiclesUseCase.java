@@ -0,0 +1,126 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportLine;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportReport;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.*;
+
+public class ImportVehiclesUseCase {
+    private final VehicleRepositoryPort vehicleRepositoryPort;
+    private final KnownVinsPort knownVinsPort;
+    private final TransactionOperations transactions;
+    private final int chunkSize;
+
+    public ImportVehiclesUseCase(VehicleRepositoryPort vehicleRepositoryPort, KnownVinsPort knownVinsPort,
+                                 TransactionOperations transactions, int chunkSize) {
+        this.vehicleRepositoryPort = vehicleRepositoryPort;
+        this.knownVinsPort = knownVinsPort;
+        this.transactions = transactions;
+        this.chunkSize = chunkSize;
+    }
+
+    public VehicleImportReport execute(Iterator<VehicleImportLine> lines) {
+        List<VehicleImportResult> results = new ArrayList<>();
+        List<VehicleImportLine> chunk = new ArrayList<>(chunkSize);
+
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+            if (chunk.size() == chunkSize) {
+                results.addAll(importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(chunk));
+        }
+
+        return VehicleImportReport.of(results);
+    }
+
+    private List<VehicleImportResult> importChunk(List<VehicleImportLine> chunk) {
+        try {
+            return transactions.execute(status -> writeChunk(chunk, true));
+        } catch (DataIntegrityViolationException e) {
+            // Another writer inserted one of these VINs after the duplicate check; the retry asks the database about
+            // every VIN and reports it as a duplicate
+            return retryChunk(chunk);
+        }
+    }
+
+    private List<VehicleImportResult> retryChunk(List<VehicleImportLine> chunk) {
+        try {
+            return transactions.execute(status -> writeChunk(chunk, false));
+        } catch (DataIntegrityViolationException e) {
+            return chunk.stream()
+                    .map(line -> VehicleImportResult.rejected(line.line(), vinOf(line), VehicleImportStatus.FAILED,
+                            "Chunk could not be written: " + e.getMostSpecificCause().getMessage()))
+                    .toList();
+        }
+    }
+
+    private List<VehicleImportResult> writeChunk(List<VehicleImportLine> chunk, boolean useFilter) {
+        VehicleImportResult[] results = new VehicleImportResult[chunk.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            VehicleImportLine line = chunk.get(i);
+            if (line.error() != null) {
+                results[i] = VehicleImportResult.rejected(line.line(), null, VehicleImportStatus.INVALID, line.error());
+                continue;
+            }
+
+            try {
+                line.vehicle().validate();
+            } catch (IllegalArgumentException e) {
+                results[i] = VehicleImportResult.rejected(line.line(), vinOf(line), VehicleImportStatus.INVALID, e.getMessage());
+                continue;
+            }
+
+            Integer first = candidates.putIfAbsent(line.vehicle().getVin(), i);
+            if (first != null) {
+                results[i] = VehicleImportResult.rejected(line.line(), vinOf(line), VehicleImportStatus.DUPLICATE,
+                        "VIN already imported at line " + chunk.get(first).line());
+            }
+        }
+
+        List<String> maybeKnown = candidates.keySet().stream()
+                .filter(vin -> !useFilter || knownVinsPort.mightContain(vin))
+                .toList();
+        Set<String> existing = maybeKnown.isEmpty() ? Set.of() : vehicleRepositoryPort.findExistingVins(maybeKnown);
+        List<Vehicle> toSave = new ArrayList<>(candidates.size());
+        List<Integer> positions = new ArrayList<>(candidates.size());
+
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int i = candidate.getValue();
+            if (existing.contains(candidate.getKey())) {
+                results[i] = VehicleImportResult.rejected(chunk.get(i).line(), candidate.getKey(), VehicleImportStatus.DUPLICATE,
+                        "Vehicle with VIN " + candidate.getKey() + " already exists");
+            } else {
+                toSave.add(chunk.get(i).vehicle());
+                positions.add(i);
+            }
+        }
+
+        if (!toSave.isEmpty()) {
+            List<Vehicle> saved = vehicleRepositoryPort.saveVehicles(toSave);
+            for (int j = 0; j < saved.size(); j++) {
+                int i = positions.get(j);
+                results[i] = VehicleImportResult.created(chunk.get(i).line(), saved.get(j));
+                knownVinsPort.add(saved.get(j).getVin());
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private static String vinOf(VehicleImportLine line) {
+        return line.vehicle() == null ? null : line.vehicle().getVin();
+    }
+}
@@ -13,10 +13,11 @@ public class MarkVehicleAsSoldUseCase implements MarkVehicleAsSoldUseCasePort {
     }
 
     @Override
-    public void execute(UUID id) {
-        repository.getVehicleById(id).ifPresent(vehicle -> {
-            vehicle.markAsSold();
-            repository.saveVehicle(vehicle);
-        });
+    public boolean execute(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Vehicle ID cannot be null");
+        }
+
+        return repository.markAsSoldIfAvailable(id);
     }
 }
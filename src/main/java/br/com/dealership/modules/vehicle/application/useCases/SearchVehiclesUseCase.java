@@ -0,0 +1,40 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFacets;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+
+public class SearchVehiclesUseCase {
+    public static final int MAX_FACET_BUCKETS = 50;
+
+    private final VehicleRepositoryPort vehicleRepositoryPort;
+
+    public SearchVehiclesUseCase(VehicleRepositoryPort vehicleRepositoryPort) {
+        this.vehicleRepositoryPort = vehicleRepositoryPort;
+    }
+
+    public VehicleSearchResult execute(VehicleFilter filter, VehicleSort sort, String cursor, int limit, boolean includeFacets) {
+        if (filter == null) {
+            filter = VehicleFilter.none();
+        }
+
+        if (sort == null) {
+            sort = VehicleSort.PRICE_ASC;
+        }
+
+        if (limit < 1 || limit > GetVehicleByStatusUseCase.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + GetVehicleByStatusUseCase.MAX_PAGE_SIZE);
+        }
+
+        filter.validate();
+
+        CursorPage<Vehicle> page = vehicleRepositoryPort.search(filter, sort, VehicleSearchCursor.decode(cursor, sort), limit);
+        VehicleFacets facets = includeFacets ? vehicleRepositoryPort.getFacets(filter, MAX_FACET_BUCKETS) : null;
+        return new VehicleSearchResult(page.items(), page.nextCursor(), facets);
+    }
+}
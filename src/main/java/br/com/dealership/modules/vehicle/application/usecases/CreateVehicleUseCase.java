@@ -2,22 +2,28 @@ package br.com.dealership.modules.vehicle.application.useCases;
 
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
 import br.com.dealership.modules.vehicle.domain.exception.DuplicateVinException;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 
 public class CreateVehicleUseCase {
     private final VehicleRepositoryPort vehicleRepositoryPort;
+    private final KnownVinsPort knownVinsPort;
 
-    public CreateVehicleUseCase(VehicleRepositoryPort vehicleRepositoryPort) {
+    public CreateVehicleUseCase(VehicleRepositoryPort vehicleRepositoryPort, KnownVinsPort knownVinsPort) {
         this.vehicleRepositoryPort = vehicleRepositoryPort;
+        this.knownVinsPort = knownVinsPort;
     }
 
     public Vehicle execute(Vehicle vehicle) {
         vehicle.validate();
 
-        if (vehicleRepositoryPort.getVehicleByVin(vehicle.getVin()).isPresent()) {
+        if (knownVinsPort.mightContain(vehicle.getVin()) && vehicleRepositoryPort.getVehicleByVin(vehicle.getVin()).isPresent()) {
             throw new DuplicateVinException(vehicle.getVin());
         }
 
-        return vehicleRepositoryPort.saveVehicle(vehicle);
+        // The filter only knows VINs written by this instance since startup; saveVehicle reports the rest as duplicates
+        Vehicle saved = vehicleRepositoryPort.saveVehicle(vehicle);
+        knownVinsPort.add(saved.getVin());
+        return saved;
     }
-}
\ No newline at end of file
+}
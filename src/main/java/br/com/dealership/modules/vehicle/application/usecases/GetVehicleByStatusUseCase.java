@@ -1,16 +1,24 @@
 package br.com.dealership.modules.vehicle.application.useCases;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleCursor;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleCatalogVersionPort;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 
 import java.util.List;
 
 public class GetVehicleByStatusUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final VehicleRepositoryPort vehicleRepositoryPort;
+    private final VehicleCatalogVersionPort catalogVersionPort;
 
-    public GetVehicleByStatusUseCase(VehicleRepositoryPort vehicleRepositoryPort) {
+    public GetVehicleByStatusUseCase(VehicleRepositoryPort vehicleRepositoryPort, VehicleCatalogVersionPort catalogVersionPort) {
         this.vehicleRepositoryPort = vehicleRepositoryPort;
+        this.catalogVersionPort = catalogVersionPort;
     }
 
     public List<Vehicle> execute(VehicleStatus status) {
@@ -20,4 +28,24 @@ public class GetVehicleByStatusUseCase {
 
         return vehicleRepositoryPort.getAllByStatus(status);
     }
-}
\ No newline at end of file
+
+    public CursorPage<Vehicle> execute(VehicleStatus status, String cursor, int limit) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        return vehicleRepositoryPort.getPageByStatus(status, VehicleCursor.decode(cursor), limit);
+    }
+
+    public String catalogVersion(VehicleStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        return catalogVersionPort.getCatalogVersion(status);
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.dealership.modules.vehicle.application.useCases;
 
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 
 import java.util.Optional;
@@ -19,4 +20,20 @@ public class GetVehicleByVinUseCase {
 
         return vehicleRepositoryPort.getVehicleByVin(vin);
     }
+
+    public Optional<VehicleChange> executeVersioned(String vin) {
+        if (vin == null || vin.isBlank()) {
+            throw new IllegalArgumentException("VIN cannot be null or empty");
+        }
+
+        return vehicleRepositoryPort.getVersionedVehicleByVin(vin);
+    }
+
+    public Optional<Long> findVersion(String vin) {
+        if (vin == null || vin.isBlank()) {
+            throw new IllegalArgumentException("VIN cannot be null or empty");
+        }
+
+        return vehicleRepositoryPort.getVehicleVersionByVin(vin);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,36 @@
 package br.com.dealership.modules.vehicle.config;
 
+import br.com.dealership.modules.vehicle.adapter.cache.CachingVehicleRepositoryAdapter;
+import br.com.dealership.modules.vehicle.adapter.cache.VehicleCacheRegionMetrics;
+import br.com.dealership.modules.vehicle.adapter.cache.VehicleCacheRegions;
+import br.com.dealership.modules.vehicle.adapter.cache.VehicleCatalogVersions;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepository;
+import br.com.dealership.modules.vehicle.adapter.filter.BloomVinFilter;
+import br.com.dealership.modules.vehicle.adapter.filter.BloomVinFilterLoader;
+import br.com.dealership.modules.vehicle.adapter.http.VehicleListResponseCache;
 import br.com.dealership.modules.vehicle.application.services.VehicleService;
 import br.com.dealership.modules.vehicle.application.useCases.*;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleCatalogVersionPort;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import br.com.dealership.modules.vehicle.mapper.VehicleMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.cache.CacheManager;
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 public class VehicleConfig {
@@ -16,8 +41,68 @@ public class VehicleConfig {
     }
 
     @Bean
-    public CreateVehicleUseCase createVehicleUseCase(VehicleRepositoryPort repositoryPort) {
-        return new CreateVehicleUseCase(repositoryPort);
+    public VehicleCatalogVersions vehicleCatalogVersions(@Value("${dealership.vehicle-cache.ttl:30s}") Duration ttl) {
+        return new VehicleCatalogVersions(ttl, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public VehicleRepositoryPort cachingVehicleRepositoryAdapter(@Qualifier("vehicleRepositoryAdapter") VehicleRepositoryPort repositoryPort,
+                                                                 VehicleCatalogVersions catalogVersions,
+                                                                 MeterRegistry meterRegistry,
+                                                                 @Value("${dealership.vehicle-cache.maximum-size:10000}") long maximumSize,
+                                                                 @Value("${dealership.vehicle-cache.ttl:30s}") Duration ttl) {
+        CachingVehicleRepositoryAdapter adapter = new CachingVehicleRepositoryAdapter(repositoryPort, catalogVersions, maximumSize, ttl);
+        adapter.bindTo(meterRegistry);
+        return adapter;
+    }
+
+    @Bean
+    public CacheManager vehicleRegionCacheManager(@Value("${dealership.vehicle-cache.ttl:30s}") Duration ttl) {
+        return VehicleCacheRegions.cacheManager(ttl);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer vehicleRegionCacheManagerCustomizer(CacheManager vehicleRegionCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", vehicleRegionCacheManager);
+    }
+
+    @Bean
+    public VehicleCacheRegionMetrics vehicleCacheRegionMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        VehicleCacheRegionMetrics metrics = new VehicleCacheRegionMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    @Bean
+    public VehicleListResponseCache vehicleListResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                             @Value("${dealership.vehicle-list-cache.maximum-size:64MB}") DataSize maximumSize,
+                                                             @Value("${dealership.vehicle-cache.ttl:30s}") Duration ttl) {
+        VehicleListResponseCache cache = new VehicleListResponseCache(objectMapper, maximumSize.toBytes(), ttl);
+        cache.bindTo(meterRegistry);
+        return cache;
+    }
+
+    @Bean
+    public BloomVinFilter bloomVinFilter(MeterRegistry meterRegistry,
+                                         @Value("${dealership.vin-filter.expected-insertions:1000000}") long expectedInsertions,
+                                         @Value("${dealership.vin-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        BloomVinFilter filter = new BloomVinFilter(expectedInsertions, falsePositiveRate);
+        filter.bindTo(meterRegistry);
+        return filter;
+    }
+
+    @Bean
+    public BloomVinFilterLoader bloomVinFilterLoader(VehicleRepository vehicleRepository, BloomVinFilter bloomVinFilter,
+                                                     PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new BloomVinFilterLoader(vehicleRepository, bloomVinFilter, readOnly);
+    }
+
+    @Bean
+    public CreateVehicleUseCase createVehicleUseCase(VehicleRepositoryPort repositoryPort, KnownVinsPort knownVinsPort) {
+        return new CreateVehicleUseCase(repositoryPort, knownVinsPort);
     }
 
     @Bean
@@ -26,8 +111,18 @@ public class VehicleConfig {
     }
 
     @Bean
-    public GetVehicleByStatusUseCase getVehicleByStatusUseCase(VehicleRepositoryPort repositoryPort) {
-        return new GetVehicleByStatusUseCase(repositoryPort);
+    public GetVehicleByStatusUseCase getVehicleByStatusUseCase(VehicleRepositoryPort repositoryPort, VehicleCatalogVersionPort catalogVersionPort) {
+        return new GetVehicleByStatusUseCase(repositoryPort, catalogVersionPort);
+    }
+
+    @Bean
+    public GetVehicleChangesUseCase getVehicleChangesUseCase(VehicleRepositoryPort repositoryPort) {
+        return new GetVehicleChangesUseCase(repositoryPort);
+    }
+
+    @Bean
+    public SearchVehiclesUseCase searchVehiclesUseCase(VehicleRepositoryPort repositoryPort) {
+        return new SearchVehiclesUseCase(repositoryPort);
     }
 
     @Bean
@@ -45,12 +140,24 @@ public class VehicleConfig {
         return new MarkVehicleAsSoldUseCase(repositoryPort);
     }
 
+    @Bean
+    public ImportVehiclesUseCase importVehiclesUseCase(VehicleRepositoryPort repositoryPort,
+                                                       KnownVinsPort knownVinsPort,
+                                                       PlatformTransactionManager transactionManager,
+                                                       @Value("${dealership.vehicle-import.chunk-size:500}") int chunkSize) {
+        return new ImportVehiclesUseCase(repositoryPort, knownVinsPort, new TransactionTemplate(transactionManager), chunkSize);
+    }
+
     @Bean
     public VehicleService vehicleService(CreateVehicleUseCase createVehicleUseCase,
                                          GetVehicleByVinUseCase getVehicleByVinUseCase,
                                          GetVehicleByStatusUseCase getVehicleByStatusUseCase,
-                                         UpdateVehicleUseCase updateVehicleUseCase) {
-        return new VehicleService(createVehicleUseCase, getVehicleByVinUseCase, getVehicleByStatusUseCase, updateVehicleUseCase);
+                                         UpdateVehicleUseCase updateVehicleUseCase,
+                                         ImportVehiclesUseCase importVehiclesUseCase,
+                                         SearchVehiclesUseCase searchVehiclesUseCase,
+                                         GetVehicleChangesUseCase getVehicleChangesUseCase) {
+        return new VehicleService(createVehicleUseCase, getVehicleByVinUseCase, getVehicleByStatusUseCase, updateVehicleUseCase,
+                importVehiclesUseCase, searchVehiclesUseCase, getVehicleChangesUseCase);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+public record FacetCount(String value, long count) {
+}
@@ -0,0 +1,4 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+public record VehicleChange(long version, Vehicle vehicle) {
+}
@@ -0,0 +1,41 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record VehicleChangeCursor(long version, UUID id) {
+    private static final char SEPARATOR = ':';
+
+    public VehicleChangeCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+
+    public static VehicleChangeCursor of(VehicleChange change) {
+        return new VehicleChangeCursor(change.version(), change.vehicle().getId());
+    }
+
+    public static VehicleChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new VehicleChangeCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = Long.toString(version) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. Only versions up to {@code syncVersion} are returned, because a lower version may still
+ * be held by an open write; after the last page the client passes {@code syncVersion} as the next {@code since}.
+ */
+public record VehicleChangeFeed(List<VehicleChange> items, String nextCursor, long syncVersion) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record VehicleCursor(BigDecimal price, UUID id) {
+    private static final char SEPARATOR = ':';
+
+    public VehicleCursor {
+        if (price == null || id == null) {
+            throw new IllegalArgumentException("Cursor price and id cannot be null");
+        }
+    }
+
+    public static VehicleCursor of(Vehicle vehicle) {
+        return new VehicleCursor(vehicle.getPrice(), vehicle.getId());
+    }
+
+    public static VehicleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new VehicleCursor(
+                    new BigDecimal(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = price.toPlainString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
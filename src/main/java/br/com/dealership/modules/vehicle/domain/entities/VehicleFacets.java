@@ -0,0 +1,6 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.util.List;
+
+public record VehicleFacets(List<FacetCount> makes, List<FacetCount> models, List<FacetCount> years) {
+}
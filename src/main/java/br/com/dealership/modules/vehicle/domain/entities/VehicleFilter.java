@@ -0,0 +1,23 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import br.com.dealership.modules.vehicle.domain.exception.InvalidVehicleException;
+
+import java.math.BigDecimal;
+
+public record VehicleFilter(String make, String model, Integer minYear, Integer maxYear,
+                            BigDecimal minPrice, BigDecimal maxPrice, String color, VehicleStatus status) {
+
+    public static VehicleFilter none() {
+        return new VehicleFilter(null, null, null, null, null, null, null, null);
+    }
+
+    public void validate() {
+        if (minYear != null && maxYear != null && minYear > maxYear) {
+            throw new InvalidVehicleException("Year range start must not be after its end");
+        }
+
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidVehicleException("Price range start must not be above its end");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+public record VehicleImportLine(int line, Vehicle vehicle, String error) {
+
+    public static VehicleImportLine parsed(int line, Vehicle vehicle) {
+        return new VehicleImportLine(line, vehicle, null);
+    }
+
+    public static VehicleImportLine unreadable(int line, String error) {
+        return new VehicleImportLine(line, null, error);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.util.List;
+
+public record VehicleImportReport(int total, int created, int rejected, List<VehicleImportResult> rows) {
+
+    public static VehicleImportReport of(List<VehicleImportResult> rows) {
+        int created = (int) rows.stream().filter(row -> row.status() == VehicleImportStatus.CREATED).count();
+        return new VehicleImportReport(rows.size(), created, rows.size() - created, rows);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.util.UUID;
+
+public record VehicleImportResult(int line, String vin, VehicleImportStatus status, UUID id, String message) {
+
+    public static VehicleImportResult created(int line, Vehicle vehicle) {
+        return new VehicleImportResult(line, vehicle.getVin(), VehicleImportStatus.CREATED, vehicle.getId(), null);
+    }
+
+    public static VehicleImportResult rejected(int line, String vin, VehicleImportStatus status, String message) {
+        return new VehicleImportResult(line, vin, status, null, message);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+public enum VehicleImportStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,48 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record VehicleSearchCursor(VehicleSort sort, BigDecimal value, UUID id) {
+    private static final char SEPARATOR = ':';
+
+    public VehicleSearchCursor {
+        if (sort == null || value == null || id == null) {
+            throw new IllegalArgumentException("Cursor sort, value and id cannot be null");
+        }
+    }
+
+    public static VehicleSearchCursor of(VehicleSort sort, Vehicle vehicle) {
+        BigDecimal value = sort.getProperty().equals("price") ? vehicle.getPrice() : BigDecimal.valueOf(vehicle.getYear());
+        return new VehicleSearchCursor(sort, value, vehicle.getId());
+    }
+
+    public static VehicleSearchCursor decode(String token, VehicleSort expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        VehicleSearchCursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), 3);
+            cursor = new VehicleSearchCursor(VehicleSort.valueOf(parts[0]), new BigDecimal(parts[1]), UUID.fromString(parts[2]));
+            if (cursor.sort().getProperty().equals("year")) {
+                cursor.value().intValueExact();
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + cursor.sort() + ", not " + expectedSort);
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + value.toPlainString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import java.util.List;
+
+public record VehicleSearchResult(List<Vehicle> items, String nextCursor, VehicleFacets facets) {
+}
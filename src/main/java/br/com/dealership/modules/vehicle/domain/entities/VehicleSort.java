@@ -0,0 +1,24 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+public enum VehicleSort {
+    PRICE_ASC("price", true),
+    PRICE_DESC("price", false),
+    YEAR_ASC("year", true),
+    YEAR_DESC("year", false);
+
+    private final String property;
+    private final boolean ascending;
+
+    VehicleSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+}
@@ -1,15 +1,31 @@
 package br.com.dealership.modules.vehicle.domain.ports.in;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportLine;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportReport;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VehicleServicePort {
     List<Vehicle> getAllVehiclesByStatus(VehicleStatus status);
+    CursorPage<Vehicle> getVehiclesByStatus(VehicleStatus status, String cursor, int limit);
+    VehicleChangeFeed getVehicleChanges(long since, String cursor, int limit);
+    VehicleSearchResult searchVehicles(VehicleFilter filter, VehicleSort sort, String cursor, int limit, boolean includeFacets);
     Optional<Vehicle> getVehicleByVin(String vin);
+    Optional<VehicleChange> getVersionedVehicleByVin(String vin);
+    Optional<Long> getVehicleVersionByVin(String vin);
+    String getCatalogVersion(VehicleStatus status);
     Vehicle createVehicle(Vehicle vehicle);
     Vehicle updateVehicle(UUID id, Vehicle vehicle);
+    VehicleImportReport importVehicles(Iterator<VehicleImportLine> lines);
 }
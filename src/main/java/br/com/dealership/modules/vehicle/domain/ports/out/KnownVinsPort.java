@@ -0,0 +1,6 @@
+package br.com.dealership.modules.vehicle.domain.ports.out;
+
+public interface KnownVinsPort {
+    boolean mightContain(String vin);
+    void add(String vin);
+}
@@ -0,0 +1,7 @@
+package br.com.dealership.modules.vehicle.domain.ports.out;
+
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+
+public interface VehicleCatalogVersionPort {
+    String getCatalogVersion(VehicleStatus status);
+}
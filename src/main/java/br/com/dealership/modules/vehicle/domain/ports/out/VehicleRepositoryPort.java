@@ -1,15 +1,37 @@
 package br.com.dealership.modules.vehicle.domain.ports.out;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFacets;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface VehicleRepositoryPort {
     List<Vehicle> getAllByStatus(VehicleStatus status);
+    CursorPage<Vehicle> getPageByStatus(VehicleStatus status, VehicleCursor after, int limit);
+    CursorPage<Vehicle> search(VehicleFilter filter, VehicleSort sort, VehicleSearchCursor after, int limit);
+    VehicleFacets getFacets(VehicleFilter filter, int maxBuckets);
+    VehicleChangeFeed getChangesSince(long since, VehicleChangeCursor after, int limit);
     Optional<Vehicle> getVehicleByVin(String id);
+    Optional<Long> getVehicleVersionByVin(String vin);
+    Optional<VehicleChange> getVersionedVehicleByVin(String vin);
+    Optional<FindVehicleDTO> getVehicleSummaryByVin(String vin);
     Optional<Vehicle> getVehicleById(UUID id);
     Vehicle saveVehicle(Vehicle vehicle);
+    List<Vehicle> saveVehicles(List<Vehicle> vehicles);
+    Set<String> findExistingVins(Collection<String> vins);
+    boolean markAsSoldIfAvailable(UUID id);
 }
@@ -6,12 +6,15 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
 @Profile("dev")
 public class DevSecurityConfig {
+    private static final String DEV_USER_NAME = "Dev User";
+    private static final String DEV_USER_CPF = "12345678909";
 
     @Bean
     public SecurityFilterChain devSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -19,7 +22,20 @@ public class DevSecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(authorize -> authorize
                 .anyRequest().permitAll()
+            )
+            // Requests without a token act as a fixed customer, so endpoints that read the buyer from the JWT work locally
+            .anonymous(anonymous -> anonymous
+                .principal(devUser())
+                .authorities("ROLE_Admin")
             );
         return http.build();
     }
-}
\ No newline at end of file
+
+    private static Jwt devUser() {
+        return Jwt.withTokenValue("dev")
+            .header("alg", "none")
+            .claim("name", DEV_USER_NAME)
+            .claim("custom:cpf", DEV_USER_CPF)
+            .build();
+    }
+}
@@ -0,0 +1,23 @@
+-- Schema as it existed before migrations were versioned. Existing databases are baselined at this version.
+CREATE TABLE vehicles (
+    id     uuid PRIMARY KEY,
+    make   varchar(255),
+    model  varchar(255),
+    year   integer      NOT NULL,
+    vin    varchar(255) NOT NULL,
+    color  varchar(255),
+    status varchar(255),
+    price  numeric(38, 2),
+    CONSTRAINT uk_vehicles_vin UNIQUE (vin)
+);
+
+CREATE TABLE sale_orders (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_name varchar(255)     NOT NULL,
+    customer_cpf  varchar(255)     NOT NULL,
+    vehicle_vin   varchar(255)     NOT NULL,
+    sale_price    double precision NOT NULL,
+    vehicle_id    uuid             NOT NULL,
+    status        varchar(255)     NOT NULL,
+    sale_date     timestamp(6)
+);
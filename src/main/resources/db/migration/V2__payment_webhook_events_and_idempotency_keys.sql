@@ -0,0 +1,21 @@
+-- Tables behind the asynchronous payment webhook and the idempotency store. Both entities are mapped whether or
+-- not the features are used, so the tables must exist before deploying: production runs with ddl-auto=validate.
+CREATE TABLE payment_webhook_events (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sale_id         bigint       NOT NULL,
+    payment_success boolean      NOT NULL,
+    payer_cpf       varchar(255) NOT NULL,
+    status          varchar(255) NOT NULL,
+    attempts        integer      NOT NULL,
+    last_error      varchar(255),
+    received_at     timestamp(6) NOT NULL,
+    available_at    timestamp(6) NOT NULL
+);
+
+CREATE TABLE idempotency_keys (
+    idempotency_key varchar(255) PRIMARY KEY,
+    fingerprint     varchar(64)  NOT NULL,
+    response_status integer,
+    response_body   text,
+    created_at      timestamp(6) NOT NULL
+);
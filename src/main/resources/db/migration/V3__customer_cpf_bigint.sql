@@ -0,0 +1,7 @@
+-- CPFs are stored as their 11-digit numeric value; leading zeros are restored by the application.
+-- Existing rows already hold normalized digit-only strings, so the cast is lossless.
+ALTER TABLE sale_orders
+    ALTER COLUMN customer_cpf TYPE bigint USING customer_cpf::bigint;
+
+ALTER TABLE payment_webhook_events
+    ALTER COLUMN payer_cpf TYPE bigint USING payer_cpf::bigint;
@@ -0,0 +1,32 @@
+-- Built CONCURRENTLY so existing tables keep accepting writes; see V4__performance_indexes.sql.conf.
+
+-- VehicleRepository.findAllByStatusOrderByPriceAsc / findAllByStatusOrderByPriceAscIdAsc / findAllByStatusAfter:
+-- equality on status, then the (price, id) keyset order, so pages are read in index order without a sort.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicles_status_price_id
+    ON vehicles (status, price, id);
+
+-- SaleRepository.findBy(SaleOrderSpecifications.matching(...)): keyset order is sale_date ASC NULLS LAST, id ASC,
+-- optionally narrowed by customer_cpf or status. findAllByCustomerCpf uses the customer_cpf prefix.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sale_orders_sale_date_id
+    ON sale_orders (sale_date, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sale_orders_customer_cpf_sale_date_id
+    ON sale_orders (customer_cpf, sale_date, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sale_orders_status_sale_date_id
+    ON sale_orders (status, sale_date, id);
+
+-- PaymentWebhookEventRepository.findClaimable: only unfinished events are scanned, and the NOT EXISTS probe
+-- looks for an earlier unfinished event of the same sale. Processed rows are deleted and FAILED rows are
+-- excluded, so both partial indexes stay small.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_webhook_events_unfinished
+    ON payment_webhook_events (id) INCLUDE (available_at)
+    WHERE status <> 'FAILED';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_webhook_events_unfinished_sale
+    ON payment_webhook_events (sale_id, id)
+    WHERE status <> 'FAILED';
+
+-- IdempotencyRecordRepository.deleteCreatedBefore.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
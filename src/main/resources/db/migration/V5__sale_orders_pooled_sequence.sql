@@ -0,0 +1,10 @@
+-- sale_orders ids come from a pooled sequence so Hibernate can batch inserts instead of executing each one
+-- to read back an identity value. The increment is the allocation size: Hibernate reserves that many ids per
+-- nextval and refuses to start when it differs from dealership.sale-orders.id-allocation-size
+-- (increment_size_mismatch_strategy=exception), so a resize changes both; see the README.
+ALTER TABLE sale_orders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE sale_orders_seq INCREMENT BY 50;
+
+-- The pooled optimizer hands out (value - increment, value], so start one full block above the current maximum.
+SELECT setval('sale_orders_seq', COALESCE((SELECT MAX(id) FROM sale_orders), 0) + 50, false);
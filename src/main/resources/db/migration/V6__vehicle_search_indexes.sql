@@ -0,0 +1,12 @@
+-- Built CONCURRENTLY so existing tables keep accepting writes; see V6__vehicle_search_indexes.sql.conf.
+
+-- VehicleRepository.findBy(VehicleSpecifications.matching(...)) with a make/model filter: make and model are
+-- compared with lower(...), so only an expression index can serve them. The (price, id) suffix keeps the
+-- PRICE_ASC/PRICE_DESC keyset order, and the same prefix serves the make/model facet counts.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicles_status_make_model_price_id
+    ON vehicles (status, lower(make), lower(model), price, id);
+
+-- VehicleRepository.findBy(VehicleSpecifications.matching(...)) sorted by YEAR_ASC/YEAR_DESC, optionally
+-- narrowed by status and a year range. Price-sorted searches without make/model use idx_vehicles_status_price_id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicles_status_year_id
+    ON vehicles (status, year, id);
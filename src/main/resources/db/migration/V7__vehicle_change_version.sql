@@ -0,0 +1,14 @@
+-- Every write to a vehicle takes the next value of vehicle_change_version_seq, so GET /api/v1/vehicles/changes
+-- can return only the rows written after a version the client already has. The adapter reads nextval itself;
+-- the column default only covers rows inserted outside the application.
+CREATE SEQUENCE vehicle_change_version_seq;
+
+ALTER TABLE vehicles ADD COLUMN change_version bigint;
+
+UPDATE vehicles SET change_version = nextval('vehicle_change_version_seq');
+
+ALTER TABLE vehicles ALTER COLUMN change_version SET DEFAULT nextval('vehicle_change_version_seq');
+ALTER TABLE vehicles ALTER COLUMN change_version SET NOT NULL;
+
+-- VehicleRepository.findAllByChangeVersionGreaterThan / findChangedAfter: keyset order is change_version, id.
+CREATE INDEX idx_vehicles_change_version_id ON vehicles (change_version, id);
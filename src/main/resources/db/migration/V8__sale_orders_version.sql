@@ -0,0 +1,3 @@
+-- Incremented by every status update, so GET /api/v1/sales/{id} can send a strong ETag and answer If-None-Match
+-- with 304 after reading only this column.
+ALTER TABLE sale_orders ADD COLUMN version bigint NOT NULL DEFAULT 0;
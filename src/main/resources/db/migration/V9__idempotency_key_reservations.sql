@@ -0,0 +1,4 @@
+-- A key without a stored response is reserved only until reserved_until; after that another request may reclaim it,
+-- so a process that dies mid-request does not block the key until the TTL purge. Rows without a lease (written
+-- before this version) are treated as abandoned.
+ALTER TABLE idempotency_keys ADD COLUMN reserved_until timestamp(6);
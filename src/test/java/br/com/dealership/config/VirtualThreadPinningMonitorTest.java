@@ -0,0 +1,48 @@
+package br.com.dealership.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should register pinned timer with zero count")
+    void shouldRegisterPinnedTimerWithZeroCount() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+
+        Timer timer = registry.find(VirtualThreadPinningMonitor.PINNED_METRIC).timer();
+        assertNotNull(timer);
+        assertEquals(0, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should record pinned duration")
+    void shouldRecordPinnedDuration() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+
+        monitor.record(Duration.ofMillis(35), "org.postgresql.core.v3.QueryExecutorImpl.execute:100");
+
+        Timer timer = registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).timer();
+        assertEquals(1, timer.count());
+        assertEquals(35, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should start and close JFR stream")
+    void shouldStartAndCloseJfrStream() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), Duration.ofMillis(20));
+
+        assertDoesNotThrow(monitor::start);
+        assertDoesNotThrow(monitor::close);
+    }
+}
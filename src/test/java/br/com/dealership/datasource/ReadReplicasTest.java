@@ -0,0 +1,78 @@
+package br.com.dealership.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicasTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private static JdbcDataSource replica(String name, Double lagSeconds) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS replica_lag");
+        if (lagSeconds != null) {
+            jdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+            jdbc.update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        }
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Should keep no replica eligible before the first refresh")
+    void shouldKeepNoReplicaEligibleBeforeTheFirstRefresh() {
+        ReadReplicas replicas = new ReadReplicas(Map.of("replica-0", replica("lag_initial", 0.0)), LAG_QUERY, Duration.ofSeconds(2));
+
+        assertTrue(replicas.eligible().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should only make replicas within the maximum lag eligible")
+    void shouldOnlyMakeReplicasWithinTheMaximumLagEligible() {
+        Map<String, JdbcDataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put("replica-0", replica("lag_caught_up", 0.5));
+        dataSources.put("replica-1", replica("lag_behind", 30.0));
+        dataSources.put("replica-2", replica("lag_unreachable", null));
+        ReadReplicas replicas = new ReadReplicas(dataSources, LAG_QUERY, Duration.ofSeconds(2));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        replicas.bindTo(registry);
+
+        replicas.refresh();
+
+        assertEquals(List.of("replica-0"), replicas.eligible());
+        assertEquals(0.5, registry.get(ReadReplicas.LAG_METRIC).tag("replica", "replica-0").gauge().value());
+        assertEquals(30.0, registry.get(ReadReplicas.LAG_METRIC).tag("replica", "replica-1").gauge().value());
+        assertTrue(Double.isNaN(registry.get(ReadReplicas.LAG_METRIC).tag("replica", "replica-2").gauge().value()));
+    }
+
+    @Test
+    @DisplayName("Should make a replica eligible again once it catches up")
+    void shouldMakeAReplicaEligibleAgainOnceItCatchesUp() {
+        JdbcDataSource dataSource = replica("lag_recovering", 30.0);
+        ReadReplicas replicas = new ReadReplicas(Map.of("replica-0", dataSource), LAG_QUERY, Duration.ofSeconds(2));
+        replicas.refresh();
+        assertTrue(replicas.eligible().isEmpty());
+
+        new JdbcTemplate(dataSource).update("UPDATE replica_lag SET seconds = 0");
+        replicas.refresh();
+
+        assertEquals(List.of("replica-0"), replicas.eligible());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty replica set")
+    void shouldRejectAnEmptyReplicaSet() {
+        assertThrows(IllegalArgumentException.class, () -> new ReadReplicas(Map.of(), LAG_QUERY, Duration.ofSeconds(2)));
+    }
+}
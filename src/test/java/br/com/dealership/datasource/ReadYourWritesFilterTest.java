@@ -0,0 +1,63 @@
+package br.com.dealership.datasource;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+    private static MockHttpServletRequest request(String method, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/vehicles");
+        Principal principal = () -> user;
+        request.setUserPrincipal(principal);
+        return request;
+    }
+
+    private boolean primaryRequiredDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean required = new AtomicBoolean();
+        FilterChain chain = (req, res) -> required.set(PrimaryReads.isRequired());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return required.get();
+    }
+
+    @Test
+    @DisplayName("Should let reads of clients without recent writes use the replicas")
+    void shouldLetReadsOfClientsWithoutRecentWritesUseTheReplicas() throws Exception {
+        assertFalse(primaryRequiredDuring(request("GET", "reader")));
+        assertFalse(PrimaryReads.isRequired());
+    }
+
+    @Test
+    @DisplayName("Should keep a client on the primary after it writes")
+    void shouldKeepAClientOnThePrimaryAfterItWrites() throws Exception {
+        assertTrue(primaryRequiredDuring(request("POST", "writer")));
+
+        assertTrue(primaryRequiredDuring(request("GET", "writer")));
+        assertFalse(primaryRequiredDuring(request("GET", "reader")));
+        assertFalse(PrimaryReads.isRequired());
+    }
+
+    @Test
+    @DisplayName("Should release the client once the window has passed")
+    void shouldReleaseTheClientOnceTheWindowHasPassed() throws Exception {
+        ReadYourWritesFilter shortWindow = new ReadYourWritesFilter(Duration.ofMillis(50));
+        AtomicBoolean required = new AtomicBoolean();
+        FilterChain chain = (req, res) -> required.set(PrimaryReads.isRequired());
+
+        shortWindow.doFilter(request("PUT", "writer"), new MockHttpServletResponse(), chain);
+        Thread.sleep(100);
+        shortWindow.doFilter(request("GET", "writer"), new MockHttpServletResponse(), chain);
+
+        assertFalse(required.get());
+    }
+}
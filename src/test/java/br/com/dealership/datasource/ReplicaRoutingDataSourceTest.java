@@ -0,0 +1,69 @@
+package br.com.dealership.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private ReadReplicas replicas;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put("replica-0", replica0);
+        dataSources.put("replica-1", replica1);
+        when(replicas.dataSources()).thenReturn(dataSources);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Test
+    @DisplayName("Should round-robin over eligible replicas")
+    void shouldRoundRobinOverEligibleReplicas() {
+        when(replicas.eligible()).thenReturn(List.of("replica-0", "replica-1"));
+
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is eligible")
+    void shouldFallBackToThePrimaryWhenNoReplicaIsEligible() {
+        when(replicas.eligible()).thenReturn(List.of());
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should use the primary while primary reads are required")
+    void shouldUseThePrimaryWhilePrimaryReadsAreRequired() {
+        Object key = PrimaryReads.call(routingDataSource::determineCurrentLookupKey);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, key);
+    }
+}
@@ -0,0 +1,273 @@
+package br.com.dealership.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+    private static final String ID = "create-sale:12345678909:key-1";
+    private static final Duration RESERVATION_TIMEOUT = Duration.ofSeconds(30);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(repository, TransactionOperations.withoutTransaction(), new ObjectMapper(), meterRegistry,
+                100, Duration.ofHours(24), RESERVATION_TIMEOUT, CLOCK);
+        executions = new AtomicInteger();
+    }
+
+    private ResponseEntity<?> createSale() {
+        executions.incrementAndGet();
+        return ResponseEntity.ok(Map.of("id", 1));
+    }
+
+    private String fingerprint(Object request) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(new ObjectMapper().writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter(IdempotencyStore.REQUESTS_METRIC, "operation", "create-sale", "outcome", outcome).count();
+    }
+
+    @Test
+    @DisplayName("Should execute action directly when no key is given")
+    void shouldExecuteActionDirectlyWhenNoKeyIsGiven() {
+        ResponseEntity<?> response = store.execute("create-sale", "12345678909", null, Map.of("vin", "A"), this::createSale);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, executions.get());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should replay stored response from memory without executing action again")
+    void shouldReplayStoredResponseFromMemoryWithoutExecutingActionAgain() {
+        when(repository.findById(ID)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.completeReservation(eq(ID), any(), eq(200), any())).thenReturn(1);
+
+        store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale);
+        ResponseEntity<?> replayed = store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale);
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.OK, replayed.getStatusCode());
+        assertEquals("{\"id\":1}", replayed.getBody());
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+        verify(repository, times(1)).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should replay response stored by another replica")
+    void shouldReplayResponseStoredByAnotherReplica() throws Exception {
+        IdempotencyRecordEntity stored = new IdempotencyRecordEntity(ID,
+                fingerprint(Map.of("vin", "A")), LocalDateTime.now(CLOCK).minusMinutes(5), null);
+        stored.complete(201, "{\"id\":1}");
+        when(repository.findById(ID)).thenReturn(Optional.of(stored));
+
+        ResponseEntity<?> replayed = store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale);
+
+        assertEquals(0, executions.get());
+        assertEquals(HttpStatus.CREATED, replayed.getStatusCode());
+        assertEquals("{\"id\":1}", replayed.getBody());
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    @DisplayName("Should reject key reused with a different request")
+    void shouldRejectKeyReusedWithADifferentRequest() {
+        IdempotencyRecordEntity stored = new IdempotencyRecordEntity(ID,
+                "a", LocalDateTime.now(CLOCK).minusMinutes(5), null);
+        stored.complete(200, "{\"id\":1}");
+        when(repository.findById(ID)).thenReturn(Optional.of(stored));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale));
+        assertEquals(0, executions.get());
+        assertEquals(1.0, count("conflict"));
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate while first request is still in progress")
+    void shouldRejectDuplicateWhileFirstRequestIsStillInProgress() {
+        when(repository.findById(ID)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale));
+        assertEquals(0, executions.get());
+        assertEquals(1.0, count("conflict"));
+    }
+
+    @Test
+    @DisplayName("Should release key when action fails")
+    void shouldReleaseKeyWhenActionFails() {
+        when(repository.findById(ID)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThrows(IllegalStateException.class, () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"),
+                () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        verify(repository).releaseReservation(ID, LocalDateTime.now(CLOCK).plus(RESERVATION_TIMEOUT));
+        verify(repository, never()).completeReservation(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should ignore expired stored response")
+    void shouldIgnoreExpiredStoredResponse() {
+        IdempotencyRecordEntity expired = new IdempotencyRecordEntity(ID,
+                "a", LocalDateTime.now(CLOCK).minusHours(25), null);
+        expired.complete(200, "{\"id\":1}");
+        when(repository.findById(ID)).thenReturn(Optional.of(expired));
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.completeReservation(eq(ID), any(), eq(200), any())).thenReturn(1);
+
+        store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale);
+
+        assertEquals(1, executions.get());
+        verify(repository).delete(expired);
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate while another request still holds the reservation")
+    void shouldRejectDuplicateWhileAnotherRequestStillHoldsTheReservation() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        IdempotencyRecordEntity reserved = new IdempotencyRecordEntity(ID, fingerprint(Map.of("vin", "A")), now, now.plusSeconds(10));
+        when(repository.findById(ID)).thenReturn(Optional.of(reserved));
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale));
+        assertEquals(0, executions.get());
+        verify(repository, never()).reclaimAbandoned(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reclaim a reservation whose holder never stored a response")
+    void shouldReclaimAReservationWhoseHolderNeverStoredAResponse() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        IdempotencyRecordEntity abandoned = new IdempotencyRecordEntity(ID, fingerprint(Map.of("vin", "A")),
+                now.minusMinutes(1), now.minusSeconds(30));
+        when(repository.findById(ID)).thenReturn(Optional.of(abandoned));
+        when(repository.reclaimAbandoned(ID, fingerprint(Map.of("vin", "A")), now, now.plus(RESERVATION_TIMEOUT))).thenReturn(1);
+        when(repository.completeReservation(ID, now.plus(RESERVATION_TIMEOUT), 200, "{\"id\":1}")).thenReturn(1);
+
+        ResponseEntity<?> response = store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, executions.get());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject reclaiming when another request took the abandoned reservation first")
+    void shouldRejectReclaimingWhenAnotherRequestTookTheAbandonedReservationFirst() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        IdempotencyRecordEntity abandoned = new IdempotencyRecordEntity(ID, fingerprint(Map.of("vin", "A")),
+                now.minusMinutes(1), now.minusSeconds(30));
+        when(repository.findById(ID)).thenReturn(Optional.of(abandoned));
+        when(repository.reclaimAbandoned(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale));
+        assertEquals(0, executions.get());
+        assertEquals(1.0, count("conflict"));
+    }
+
+    @Test
+    @DisplayName("Should store the response in the same transaction as the action")
+    void shouldStoreTheResponseInTheSameTransactionAsTheAction() {
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        TransactionOperations transactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                inTransaction.set(true);
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    inTransaction.set(false);
+                }
+            }
+        };
+        store = new IdempotencyStore(repository, transactions, new ObjectMapper(), meterRegistry,
+                100, Duration.ofHours(24), RESERVATION_TIMEOUT, CLOCK);
+        when(repository.findById(ID)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get());
+            return invocation.getArgument(0);
+        });
+        when(repository.completeReservation(eq(ID), any(), eq(200), any())).thenAnswer(invocation -> {
+            assertTrue(inTransaction.get());
+            return 1;
+        });
+
+        store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), () -> {
+            assertTrue(inTransaction.get());
+            return createSale();
+        });
+
+        verify(repository).completeReservation(eq(ID), any(), eq(200), any());
+    }
+
+    @Test
+    @DisplayName("Should fail the action when its reservation was reclaimed before completion")
+    void shouldFailTheActionWhenItsReservationWasReclaimedBeforeCompletion() {
+        when(repository.findById(ID)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecordEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.completeReservation(eq(ID), any(), eq(200), any())).thenReturn(0);
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("create-sale", "12345678909", "key-1", Map.of("vin", "A"), this::createSale));
+        verify(repository).releaseReservation(ID, LocalDateTime.now(CLOCK).plus(RESERVATION_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("Should reject blank key")
+    void shouldRejectBlankKey() {
+        assertThrows(IllegalArgumentException.class,
+                () -> store.execute("create-sale", "12345678909", " ", Map.of("vin", "A"), this::createSale));
+        assertEquals(0, executions.get());
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.dealership.integration.database;
+
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepository;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepositoryAdapter;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.utils.JwtTestHelper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionHoldTimeIntegrationTest {
+
+    private static final String VIN = "3VWFE21C04M000001";
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        ActiveConnectionsAtSerialization activeConnectionsAtSerialization(HikariDataSource primaryDataSource) {
+            return new ActiveConnectionsAtSerialization(primaryDataSource);
+        }
+    }
+
+    // Runs after the controller returned and right before the body is serialized, which open-in-view would still cover
+    @ControllerAdvice
+    static class ActiveConnectionsAtSerialization implements ResponseBodyAdvice<Object> {
+        private final HikariDataSource primaryDataSource;
+        private final AtomicInteger activeConnections = new AtomicInteger(-1);
+
+        ActiveConnectionsAtSerialization(HikariDataSource primaryDataSource) {
+            this.primaryDataSource = primaryDataSource;
+        }
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            activeConnections.set(primaryDataSource.getHikariPoolMXBean().getActiveConnections());
+            return body;
+        }
+    }
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private VehicleRepositoryAdapter vehicleRepositoryAdapter;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ActiveConnectionsAtSerialization activeConnectionsAtSerialization;
+
+    private MockMvc mockMvc;
+    private TransactionTemplate transaction;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+        transaction = new TransactionTemplate(transactionManager);
+
+        Vehicle vehicle = new Vehicle(null, "Volkswagen", "Jetta", 2004, VIN, "Gray", VehicleStatus.AVAILABLE, new BigDecimal("9000.00"));
+        vehicleId = transaction.execute(status -> vehicleRepositoryAdapter.saveVehicle(vehicle)).getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> vehicleRepository.deleteById(vehicleId));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Timer connectionUsage() {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", "primary").timer();
+    }
+
+    @Test
+    @DisplayName("Should hold one connection only while the read transaction runs")
+    void shouldHoldOneConnectionOnlyWhileTheReadTransactionRuns() throws Exception {
+        long borrowsBefore = connectionUsage().count();
+        activeConnectionsAtSerialization.activeConnections.set(-1);
+
+        mockMvc.perform(get("/api/v1/vehicles/" + VIN).with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk());
+
+        assertEquals(1, connectionUsage().count() - borrowsBefore);
+        assertEquals(0, activeConnectionsAtSerialization.activeConnections.get(),
+                "A connection was still borrowed while the response body was written");
+        assertEquals(0, meterRegistry.get("hikaricp.connections.active").tag("pool", "primary").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not borrow a connection for reads answered from the cache")
+    void shouldNotBorrowAConnectionForReadsAnsweredFromTheCache() throws Exception {
+        mockMvc.perform(get("/api/v1/vehicles/" + VIN).with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk());
+        long borrowsBefore = connectionUsage().count();
+
+        mockMvc.perform(get("/api/v1/vehicles/" + VIN).with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk());
+
+        assertEquals(0, connectionUsage().count() - borrowsBefore);
+    }
+
+    @Test
+    @DisplayName("Should not keep an EntityManager open for the whole request")
+    void shouldNotKeepAnEntityManagerOpenForTheWholeRequest() {
+        assertTrue(webApplicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+    }
+}
@@ -0,0 +1,164 @@
+package br.com.dealership.integration.database;
+
+import br.com.dealership.datasource.ReadReplicas;
+import br.com.dealership.datasource.ReadYourWritesFilter;
+import br.com.dealership.modules.vehicle.adapter.http.dto.CreateVehicleDTO;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.utils.JwtTestHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "dealership.read-replicas.enabled=true",
+        "dealership.read-replicas.urls=jdbc:h2:mem:routing_replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "dealership.read-replicas.lag-query=SELECT seconds FROM replica_lag",
+        "dealership.read-replicas.check-interval=1h",
+        "dealership.read-replicas.read-your-writes-window=1m"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String INSERT_VEHICLE = """
+            INSERT INTO "vehicles" ("id", "make", "model", "year", "vin", "color", "status", "price", "change_version")
+            VALUES (?, 'Ford', 'Focus', 2020, ?, 'Blue', 'AVAILABLE', 15000.00, 1)
+            """;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReadReplicas readReplicas;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .addFilters(readYourWritesFilter)
+                .build();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(readReplicas.dataSources().get("replica-0"));
+
+        // the stand-in replica starts as a schema-only copy of the primary
+        replica.execute("DROP ALL OBJECTS");
+        List<String> schema = primary.queryForList("SCRIPT NODATA", String.class);
+        schema.stream().filter(statement -> !statement.startsWith("--")).forEach(replica::execute);
+        replica.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        readReplicas.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.update("DELETE FROM \"vehicles\"");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private static RequestPostProcessor client(String subject) {
+        return JwtTestHelper.createAdminJwt().jwt(jwt -> jwt.subject(subject));
+    }
+
+    private long countOnRoutedConnection(boolean readOnly, String vin) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM \"vehicles\" WHERE \"vin\" = ?", Long.class, vin));
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and others to the primary")
+    void shouldSendReadOnlyTransactionsToTheReplicaAndOthersToThePrimary() {
+        replica.update(INSERT_VEHICLE, UUID.randomUUID(), "REPLICAONLY000001");
+
+        assertEquals(1, countOnRoutedConnection(true, "REPLICAONLY000001"));
+        assertEquals(0, countOnRoutedConnection(false, "REPLICAONLY000001"));
+    }
+
+    @Test
+    @DisplayName("Should serve vehicle GETs from the replica")
+    void shouldServeVehicleGetsFromTheReplica() throws Exception {
+        replica.update(INSERT_VEHICLE, UUID.randomUUID(), "REPLICAONLY000002");
+
+        mockMvc.perform(get("/api/v1/vehicles/REPLICAONLY000002").with(client("reader")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vin").value("REPLICAONLY000002"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags")
+    void shouldFallBackToThePrimaryWhileTheReplicaLags() throws Exception {
+        replica.update(INSERT_VEHICLE, UUID.randomUUID(), "REPLICAONLY000003");
+        replica.update("UPDATE replica_lag SET seconds = 60");
+        readReplicas.refresh();
+
+        mockMvc.perform(get("/api/v1/vehicles/REPLICAONLY000003").with(client("reader")))
+                .andExpect(status().isNotFound());
+        assertEquals(0, countOnRoutedConnection(true, "REPLICAONLY000003"));
+    }
+
+    @Test
+    @DisplayName("Should read a client's own writes from the primary right after it writes")
+    void shouldReadAClientsOwnWritesFromThePrimaryRightAfterItWrites() throws Exception {
+        CreateVehicleDTO vehicle = new CreateVehicleDTO("Honda", "Fit", 2021, "PRIMARYONLY000001", "Red",
+                VehicleStatus.AVAILABLE, new BigDecimal("17000.00"));
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(client("writer"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(vehicle)))
+                .andExpect(status().isOk());
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/v1/vehicles/PRIMARYONLY000001").with(client("reader")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/vehicles/PRIMARYONLY000001").with(client("writer")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vin").value("PRIMARYONLY000001"));
+    }
+}
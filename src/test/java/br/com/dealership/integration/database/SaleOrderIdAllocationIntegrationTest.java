@@ -0,0 +1,58 @@
+package br.com.dealership.integration.database;
+
+import br.com.dealership.modules.sale.adapter.database.entities.SaleOrderEntity;
+import br.com.dealership.modules.sale.adapter.database.repositories.SaleRepository;
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "dealership.sale-orders.id-allocation-size=20")
+@ActiveProfiles("test")
+class SaleOrderIdAllocationIntegrationTest {
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        saleRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should size the sale order sequence from the configured allocation size")
+    void shouldSizeTheSaleOrderSequenceFromTheConfiguredAllocationSize() {
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'sale_orders_seq'", Long.class);
+
+        assertEquals(20, increment);
+    }
+
+    @Test
+    @DisplayName("Should hand out consecutive sale order ids from one reserved block")
+    void shouldHandOutConsecutiveSaleOrderIdsFromOneReservedBlock() {
+        List<SaleOrderEntity> saved = saleRepository.saveAll(List.of(saleOrder(), saleOrder(), saleOrder()));
+
+        assertEquals(saved.get(0).getId() + 1, saved.get(1).getId());
+        assertEquals(saved.get(1).getId() + 1, saved.get(2).getId());
+    }
+
+    private static SaleOrderEntity saleOrder() {
+        return new SaleOrderEntity(null, "John Doe", new CPF("12345678909"), "1HGBH41JXMN109186", 25000.0,
+                UUID.randomUUID(), SaleStatus.PENDING, LocalDateTime.now());
+    }
+}
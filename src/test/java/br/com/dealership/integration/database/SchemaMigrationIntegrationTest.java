@@ -0,0 +1,233 @@
+package br.com.dealership.integration.database;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SchemaMigrationIntegrationTest {
+
+    private static final String USERNAME = "dealership";
+    private static final String PASSWORD = "dealership";
+
+    private static GenericContainer<?> postgres;
+    private static String jdbcUrl;
+
+    @BeforeAll
+    static void startDatabase() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required for migration tests");
+
+        postgres = new GenericContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withEnv("POSTGRES_DB", "dealership_db")
+                .withEnv("POSTGRES_USER", USERNAME)
+                .withEnv("POSTGRES_PASSWORD", PASSWORD)
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+        postgres.start();
+
+        jdbcUrl = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/dealership_db";
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        configuration().cleanDisabled(false).load().clean();
+    }
+
+    private FluentConfiguration configuration() {
+        return Flyway.configure()
+                .dataSource(jdbcUrl, USERNAME, PASSWORD)
+                .locations("classpath:db/migration");
+    }
+
+    private void migrate() {
+        configuration().load().migrate();
+    }
+
+    private void migrateTo(String version) {
+        configuration().target(version).load().migrate();
+    }
+
+    private Connection connection() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, USERNAME, PASSWORD);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    // Literal values, so the same fixture fits customer_cpf both as varchar (V1) and as bigint (V3 onwards)
+    private void insertSaleOrder(long id, String cpf) throws SQLException {
+        execute("""
+                INSERT INTO sale_orders (id, customer_name, customer_cpf, vehicle_vin, sale_price, vehicle_id, status)
+                VALUES (%d, 'John Doe', '%s', '1HGBH41JXMN109186', 25000.0, gen_random_uuid(), 'PENDING')
+                """.formatted(id, cpf));
+    }
+
+    private void insertVehicle(String vin) throws SQLException {
+        execute("""
+                INSERT INTO vehicles (id, make, model, year, vin, color, status, price)
+                VALUES (gen_random_uuid(), 'Honda', 'Civic', 2023, '%s', 'Black', 'AVAILABLE', 25000.0)
+                """.formatted(vin));
+    }
+
+    private String queryString(String sql) throws SQLException {
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            assertTrue(rs.next(), "no row for: " + sql);
+            return rs.getString(1);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        return Long.parseLong(queryString(sql));
+    }
+
+    private Map<String, String> indexes() throws SQLException {
+        Map<String, String> indexes = new HashMap<>();
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT indexname, indexdef FROM pg_indexes WHERE schemaname = 'public'")) {
+            while (rs.next()) {
+                indexes.put(rs.getString("indexname"), rs.getString("indexdef"));
+            }
+        }
+        return indexes;
+    }
+
+    @Test
+    @DisplayName("Should create keyset indexes for vehicle and sale listings")
+    void shouldCreateKeysetIndexesForVehicleAndSaleListings() throws SQLException {
+        migrate();
+
+        Map<String, String> indexes = indexes();
+
+        assertTrue(indexes.get("idx_vehicles_status_price_id").contains("(status, price, id)"));
+        assertTrue(indexes.get("idx_sale_orders_sale_date_id").contains("(sale_date, id)"));
+        assertTrue(indexes.get("idx_sale_orders_customer_cpf_sale_date_id").contains("(customer_cpf, sale_date, id)"));
+        assertTrue(indexes.get("idx_sale_orders_status_sale_date_id").contains("(status, sale_date, id)"));
+        assertTrue(indexes.get("idx_idempotency_keys_created_at").contains("(created_at)"));
+        assertTrue(indexes.containsKey("uk_vehicles_vin"));
+    }
+
+    @Test
+    @DisplayName("Should create case-insensitive and year indexes for vehicle search")
+    void shouldCreateCaseInsensitiveAndYearIndexesForVehicleSearch() throws SQLException {
+        migrate();
+
+        Map<String, String> indexes = indexes();
+
+        assertTrue(indexes.get("idx_vehicles_status_make_model_price_id")
+                .contains("(status, lower((make)::text), lower((model)::text), price, id)"));
+        assertTrue(indexes.get("idx_vehicles_status_year_id").contains("(status, year, id)"));
+    }
+
+    @Test
+    @DisplayName("Should create partial indexes for unfinished payment webhook events")
+    void shouldCreatePartialIndexesForUnfinishedPaymentWebhookEvents() throws SQLException {
+        migrate();
+
+        Map<String, String> indexes = indexes();
+
+        String unfinished = indexes.get("idx_payment_webhook_events_unfinished");
+        assertTrue(unfinished.contains("(id) INCLUDE (available_at)"));
+        assertTrue(unfinished.contains("WHERE ((status)::text <> 'FAILED'::text)"));
+
+        String unfinishedBySale = indexes.get("idx_payment_webhook_events_unfinished_sale");
+        assertTrue(unfinishedBySale.contains("(sale_id, id)"));
+        assertTrue(unfinishedBySale.contains("WHERE ((status)::text <> 'FAILED'::text)"));
+    }
+
+    @Test
+    @DisplayName("Should convert existing customer CPFs to bigint when migrating a baselined database")
+    void shouldConvertExistingCustomerCpfsToBigintWhenMigratingABaselinedDatabase() throws SQLException {
+        migrateTo("1");
+        insertSaleOrder(1, "01234567890");
+
+        migrate();
+
+        assertEquals(1234567890L, queryLong("SELECT customer_cpf FROM sale_orders WHERE id = 1"));
+        assertEquals("bigint", queryString("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_name = 'sale_orders' AND column_name = 'customer_cpf'
+                """));
+    }
+
+    @Test
+    @DisplayName("Should continue sale order ids from a pooled sequence above existing rows")
+    void shouldContinueSaleOrderIdsFromAPooledSequenceAboveExistingRows() throws SQLException {
+        migrateTo("4");
+        insertSaleOrder(120, "12345678909");
+
+        migrate();
+
+        assertEquals(50, queryLong("SELECT increment_by FROM pg_sequences WHERE sequencename = 'sale_orders_seq'"));
+        assertEquals(170, queryLong("SELECT nextval('sale_orders_seq')"));
+    }
+
+    @Test
+    @DisplayName("Should backfill vehicle change versions and keep assigning them to new rows")
+    void shouldBackfillVehicleChangeVersionsAndKeepAssigningThemToNewRows() throws SQLException {
+        migrateTo("6");
+        insertVehicle("1HGBH41JXMN109186");
+
+        migrate();
+        insertVehicle("1HGCM82633A004352");
+
+        assertEquals(1, queryLong("SELECT change_version FROM vehicles WHERE vin = '1HGBH41JXMN109186'"));
+        assertEquals(2, queryLong("SELECT change_version FROM vehicles WHERE vin = '1HGCM82633A004352'"));
+        assertTrue(indexes().get("idx_vehicles_change_version_id").contains("(change_version, id)"));
+    }
+
+    @Test
+    @DisplayName("Should start existing sale orders at version zero")
+    void shouldStartExistingSaleOrdersAtVersionZero() throws SQLException {
+        migrateTo("7");
+        insertSaleOrder(1, "12345678909");
+
+        migrate();
+
+        assertEquals(0, queryLong("SELECT version FROM sale_orders WHERE id = 1"));
+    }
+
+    @Test
+    @DisplayName("Should leave reservations written before the lease column reclaimable")
+    void shouldLeaveReservationsWrittenBeforeTheLeaseColumnReclaimable() throws SQLException {
+        migrateTo("8");
+        execute("""
+                INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at)
+                VALUES ('create-sale:12345678909:key-1', 'a', now())
+                """);
+
+        migrate();
+
+        assertNull(queryString("SELECT reserved_until FROM idempotency_keys WHERE idempotency_key = 'create-sale:12345678909:key-1'"));
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.dealership.integration.database;
+
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleChangeVersions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VehicleChangeVersionsIntegrationTest {
+
+    private static final String USERNAME = "dealership";
+    private static final String PASSWORD = "dealership";
+
+    private static GenericContainer<?> postgres;
+    private static String jdbcUrl;
+
+    @BeforeAll
+    static void startDatabase() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker is required for change version tests");
+
+        postgres = new GenericContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withEnv("POSTGRES_DB", "dealership_db")
+                .withEnv("POSTGRES_USER", USERNAME)
+                .withEnv("POSTGRES_PASSWORD", PASSWORD)
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+        postgres.start();
+
+        jdbcUrl = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/dealership_db";
+        Flyway.configure().dataSource(jdbcUrl, USERNAME, PASSWORD).locations("classpath:db/migration").load().migrate();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    private Connection transaction() throws SQLException {
+        Connection connection = DriverManager.getConnection(jdbcUrl, USERNAME, PASSWORD);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private long queryLong(Connection connection, String sql, Long parameter) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql.replace(":allocated", "?"))) {
+            if (parameter != null) {
+                statement.setLong(1, parameter);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                long value = rs.getLong(1);
+                return rs.wasNull() ? Long.MAX_VALUE : value;
+            }
+        }
+    }
+
+    private long nextVersion(Connection connection) throws SQLException {
+        return queryLong(connection, VehicleChangeVersions.LEASED_NEXT_VERSION_SQL, null);
+    }
+
+    private long safeVersion() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, USERNAME, PASSWORD)) {
+            long allocated = queryLong(connection, VehicleChangeVersions.ALLOCATED_VERSION_SQL, null);
+            long lowestLease = queryLong(connection, VehicleChangeVersions.LOWEST_LEASE_SQL, allocated);
+            return lowestLease == Long.MAX_VALUE ? allocated : Math.min(allocated, lowestLease - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold the safe version below a write that is still open")
+    void shouldHoldTheSafeVersionBelowAWriteThatIsStillOpen() throws SQLException {
+        try (Connection slow = transaction(); Connection fast = transaction()) {
+            long slowVersion = nextVersion(slow);
+            long fastVersion = nextVersion(fast);
+            fast.commit();
+
+            assertTrue(fastVersion > slowVersion);
+            assertTrue(safeVersion() < slowVersion);
+
+            slow.commit();
+
+            assertTrue(safeVersion() >= fastVersion);
+        }
+    }
+
+    @Test
+    @DisplayName("Should release the lease when the write rolls back")
+    void shouldReleaseTheLeaseWhenTheWriteRollsBack() throws SQLException {
+        try (Connection aborted = transaction()) {
+            long version = nextVersion(aborted);
+            assertTrue(safeVersion() < version);
+
+            aborted.rollback();
+
+            assertTrue(safeVersion() >= version);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.dealership.integration.sale;
 
+import br.com.dealership.idempotency.IdempotencyRecordEntity;
+import br.com.dealership.idempotency.IdempotencyRecordRepository;
 import br.com.dealership.modules.sale.adapter.http.dto.CreateSaleDTO;
 import br.com.dealership.modules.sale.adapter.http.dto.WebhookStatusDTO;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
@@ -16,13 +18,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +41,9 @@ class SaleControllerIntegrationTest {
     @Autowired
     private WebApplicationContext webApplicationContext;
 
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
     private MockMvc mockMvc;
 
     private ObjectMapper objectMapper;
@@ -176,6 +185,50 @@ class SaleControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    @DisplayName("Should answer conditional sale lookup with 304 until the sale status changes")
+    void shouldAnswerConditionalSaleLookupWith304UntilTheSaleStatusChanges() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String createSaleResponse = mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String saleId = objectMapper.readTree(createSaleResponse).get("id").asText();
+
+        mockMvc.perform(get("/api/v1/sales/{id}", saleId)
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+
+        mockMvc.perform(get("/api/v1/sales/{id}", saleId)
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(post("/api/v1/sales/payment-webhook/{id}", saleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WebhookStatusDTO(true, "12345678909"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/sales/{id}", saleId)
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
     @Test
     @DisplayName("Should return 404 when sale not found")
     void shouldReturn404WhenSaleNotFound() throws Exception {
@@ -281,6 +334,74 @@ class SaleControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].customerCpf.value").value("12345678909"));
     }
 
+    @Test
+    @DisplayName("Should page sales with cursor and status filter")
+    void shouldPageSalesWithCursorAndStatusFilter() throws Exception {
+        String[] vins = {"SALEPAGEVIN000001", "SALEPAGEVIN000002", "SALEPAGEVIN000003"};
+        for (String vin : vins) {
+            CreateVehicleDTO vehicle = new CreateVehicleDTO(
+                    "Fiat",
+                    "Uno",
+                    2020,
+                    vin,
+                    "Gray",
+                    VehicleStatus.AVAILABLE,
+                    new BigDecimal("10000.00")
+            );
+
+            mockMvc.perform(post("/api/v1/vehicles")
+                            .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(vehicle)))
+                    .andExpect(status().isOk());
+
+            CreateSaleDTO sale = new CreateSaleDTO(vin, 10000.0);
+            mockMvc.perform(post("/api/v1/sales")
+                            .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(sale)))
+                    .andExpect(status().isOk());
+        }
+
+        String nextCursor = mockMvc.perform(get("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .param("status", "PENDING")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .param("cpf", "12345678909")
+                        .param("status", "PENDING")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].vehicleVin").value("SALEPAGEVIN000003"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .param("status", "COMPLETED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when listing sales with invalid cursor")
+    void shouldReturn400WhenListingSalesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Invalid cursor")));
+    }
+
     @Test
     @DisplayName("Should return 400 when filtering with invalid CPF")
     void shouldReturn400WhenFilteringWithInvalidCpf() throws Exception {
@@ -401,6 +522,52 @@ class SaleControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(containsString("not in PENDING status")));
     }
 
+    @Test
+    @DisplayName("Should stream final sale status and close the event stream")
+    void shouldStreamFinalSaleStatusAndCloseTheEventStream() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String createSaleResponse = mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String saleId = objectMapper.readTree(createSaleResponse).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/sales/payment-webhook/{id}", saleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WebhookStatusDTO(true, "12345678909"))))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/sales/{id}/events", saleId)
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        String stream = result.getResponse().getContentAsString();
+        assertTrue(stream.contains("event:sale-status"));
+        assertTrue(stream.contains("\"saleId\":" + saleId));
+        assertTrue(stream.contains("\"status\":\"COMPLETED\""));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when streaming events of a missing sale")
+    void shouldReturn404WhenStreamingEventsOfAMissingSale() throws Exception {
+        mockMvc.perform(get("/api/v1/sales/{id}/events", "999999")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return 400 when sale price is less than vehicle price")
     void shouldReturn400WhenSalePriceIsLessThanVehiclePrice() throws Exception {
@@ -496,4 +663,142 @@ class SaleControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))));
     }
+
+    @Test
+    @DisplayName("Should replay first response when sale creation is retried with the same Idempotency-Key")
+    void shouldReplayFirstResponseWhenSaleCreationIsRetriedWithTheSameIdempotencyKey() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String firstResponse = mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String saleId = objectMapper.readTree(firstResponse).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(Long.parseLong(saleId)))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        mockMvc.perform(get("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .param("cpf", "12345678909"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when Idempotency-Key is reused with a different sale request")
+    void shouldReturn400WhenIdempotencyKeyIsReusedWithADifferentSaleRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk());
+
+        createSaleDTO.setSalePrice(30000.0);
+
+        mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("different request")));
+    }
+
+    @Test
+    @DisplayName("Should let a retry reclaim an Idempotency-Key whose first attempt never stored a response")
+    void shouldLetARetryReclaimAnIdempotencyKeyWhoseFirstAttemptNeverStoredAResponse() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String idempotencyKey = UUID.randomUUID().toString();
+        LocalDateTime reservedAt = LocalDateTime.now().minusMinutes(5);
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecordEntity("create-sale:12345678909:" + idempotencyKey,
+                "fingerprint-of-the-dead-attempt", reservedAt, reservedAt.plusSeconds(30)));
+
+        String response = mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String saleId = objectMapper.readTree(response).get("id").asText();
+
+        mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(Long.parseLong(saleId)));
+    }
+
+    @Test
+    @DisplayName("Should answer retried payment webhook with the first response")
+    void shouldAnswerRetriedPaymentWebhookWithTheFirstResponse() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String createSaleResponse = mockMvc.perform(post("/api/v1/sales")
+                        .with(JwtTestHelper.createAdminJwt("John Doe", "12345678909"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createSaleDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String saleId = objectMapper.readTree(createSaleResponse).get("id").asText();
+        String idempotencyKey = UUID.randomUUID().toString();
+        WebhookStatusDTO webhookStatus = new WebhookStatusDTO(true, "12345678909");
+
+        mockMvc.perform(post("/api/v1/sales/payment-webhook/{id}", saleId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(webhookStatus)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/sales/payment-webhook/{id}", saleId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(webhookStatus)))
+                .andExpect(status().isOk());
+    }
 }
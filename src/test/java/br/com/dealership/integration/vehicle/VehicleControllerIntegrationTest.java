@@ -4,6 +4,7 @@ import br.com.dealership.modules.vehicle.adapter.http.dto.CreateVehicleDTO;
 import br.com.dealership.modules.vehicle.adapter.http.dto.UpdateVehicleDTO;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import br.com.dealership.utils.JwtTestHelper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +18,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -173,6 +177,288 @@ class VehicleControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].price").value(30000.00));
     }
 
+    @Test
+    @DisplayName("Should page available vehicles with cursor")
+    void shouldPageAvailableVehiclesWithCursor() throws Exception {
+        String[] vins = {"PAGEVIN0000000001", "PAGEVIN0000000002", "PAGEVIN0000000003"};
+        String[] prices = {"30000.00", "10000.00", "20000.00"};
+        for (int i = 0; i < vins.length; i++) {
+            CreateVehicleDTO vehicle = new CreateVehicleDTO(
+                    "Fiat",
+                    "Uno",
+                    2020,
+                    vins[i],
+                    "Gray",
+                    VehicleStatus.AVAILABLE,
+                    new BigDecimal(prices[i])
+            );
+
+            mockMvc.perform(post("/api/v1/vehicles")
+                            .with(JwtTestHelper.createAdminJwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(vehicle)))
+                    .andExpect(status().isOk());
+        }
+
+        String nextCursor = mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].price").value(10000.00))
+                .andExpect(jsonPath("$[1].price").value(20000.00))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].price").value(30000.00))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when listing vehicles with invalid cursor or limit")
+    void shouldReturn400WhenListingVehiclesWithInvalidCursorOrLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Invalid cursor")));
+
+        mockMvc.perform(get("/api/v1/vehicles/sold")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void createVehicle(String make, String model, int year, String vin, String color, VehicleStatus status, String price) throws Exception {
+        CreateVehicleDTO vehicle = new CreateVehicleDTO(make, model, year, vin, color, status, new BigDecimal(price));
+
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(vehicle)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should search vehicles by case-insensitive make and ranges with facet counts")
+    void shouldSearchVehiclesByCaseInsensitiveMakeAndRangesWithFacetCounts() throws Exception {
+        createVehicle("Searchcar", "Alpha", 2019, "SRCHVIN0000000001", "Red", VehicleStatus.AVAILABLE, "15000.00");
+        createVehicle("Searchcar", "Alpha", 2021, "SRCHVIN0000000002", "Blue", VehicleStatus.AVAILABLE, "22000.00");
+        createVehicle("Searchcar", "Beta", 2022, "SRCHVIN0000000003", "Red", VehicleStatus.AVAILABLE, "31000.00");
+        createVehicle("Searchcar", "Beta", 2023, "SRCHVIN0000000004", "Red", VehicleStatus.SOLD, "40000.00");
+        createVehicle("Othercar", "Alpha", 2021, "SRCHVIN0000000005", "Red", VehicleStatus.AVAILABLE, "20000.00");
+
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("make", "SEARCHCAR")
+                        .param("status", "AVAILABLE")
+                        .param("minYear", "2020")
+                        .param("maxPrice", "35000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].vin").value("SRCHVIN0000000002"))
+                .andExpect(jsonPath("$.items[1].vin").value("SRCHVIN0000000003"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.facets.makes", hasSize(1)))
+                .andExpect(jsonPath("$.facets.makes[0].value").value("Searchcar"))
+                .andExpect(jsonPath("$.facets.makes[0].count").value(2))
+                .andExpect(jsonPath("$.facets.models[*].value", contains("Alpha", "Beta")))
+                .andExpect(jsonPath("$.facets.years[*].value", contains("2021", "2022")));
+
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("model", "alpha")
+                        .param("color", "red")
+                        .param("facets", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].vin", contains("SRCHVIN0000000001", "SRCHVIN0000000005")))
+                .andExpect(jsonPath("$.facets").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should page search results with cursor in descending year order")
+    void shouldPageSearchResultsWithCursorInDescendingYearOrder() throws Exception {
+        createVehicle("Pagecar", "Gamma", 2020, "SRCHPAG0000000001", "Gray", VehicleStatus.AVAILABLE, "18000.00");
+        createVehicle("Pagecar", "Gamma", 2024, "SRCHPAG0000000002", "Gray", VehicleStatus.AVAILABLE, "26000.00");
+        createVehicle("Pagecar", "Gamma", 2022, "SRCHPAG0000000003", "Gray", VehicleStatus.AVAILABLE, "21000.00");
+
+        String nextCursor = mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("make", "Pagecar")
+                        .param("sort", "YEAR_DESC")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].year", contains(2024, 2022)))
+                .andExpect(jsonPath("$.facets.years", hasSize(3)))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("make", "Pagecar")
+                        .param("sort", "YEAR_DESC")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].year", contains(2020)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("make", "Pagecar")
+                        .param("sort", "PRICE_ASC")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when searching vehicles with an inverted range")
+    void shouldReturn400WhenSearchingVehiclesWithAnInvertedRange() throws Exception {
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("minPrice", "50000")
+                        .param("maxPrice", "10000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/vehicles/search")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("minYear", "2024")
+                        .param("maxYear", "2020"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long changeVersionOf(String vin, long since) throws Exception {
+        String response = mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        for (JsonNode change : objectMapper.readTree(response)) {
+            if (change.get("vehicle").get("vin").asText().equals(vin)) {
+                return change.get("version").asLong();
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    @DisplayName("Should return only vehicles created or updated after the given change version")
+    void shouldReturnOnlyVehiclesCreatedOrUpdatedAfterTheGivenChangeVersion() throws Exception {
+        createVehicle("Feedcar", "Delta", 2021, "FEEDVIN0000000001", "Gray", VehicleStatus.AVAILABLE, "18000.00");
+        createVehicle("Feedcar", "Delta", 2022, "FEEDVIN0000000002", "Gray", VehicleStatus.AVAILABLE, "21000.00");
+
+        long first = changeVersionOf("FEEDVIN0000000001", 0);
+        long second = changeVersionOf("FEEDVIN0000000002", 0);
+        assertTrue(first > 0);
+        assertTrue(second > first);
+
+        mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", String.valueOf(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].vehicle.vin", hasItem("FEEDVIN0000000002")))
+                .andExpect(jsonPath("$[*].vehicle.vin", not(hasItem("FEEDVIN0000000001"))));
+
+        String vehicleId = mockMvc.perform(get("/api/v1/vehicles/{vin}", "FEEDVIN0000000001")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UpdateVehicleDTO updateDTO = new UpdateVehicleDTO();
+        updateDTO.setMake("Feedcar");
+        updateDTO.setModel("Delta");
+        updateDTO.setYear(2021);
+        updateDTO.setColor("Gray");
+        updateDTO.setStatus(VehicleStatus.AVAILABLE);
+        updateDTO.setPrice(new BigDecimal("17500.00"));
+
+        mockMvc.perform(put("/api/v1/vehicles/{id}", objectMapper.readTree(vehicleId).get("id").asText())
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", String.valueOf(second)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].vehicle.vin").value("FEEDVIN0000000001"))
+                .andExpect(jsonPath("$[0].vehicle.price").value(17500.00))
+                .andExpect(jsonPath("$[0].version", greaterThan((int) second)));
+    }
+
+    @Test
+    @DisplayName("Should resume the change feed from the returned sync version")
+    void shouldResumeTheChangeFeedFromTheReturnedSyncVersion() throws Exception {
+        createVehicle("Feedcar", "Zeta", 2021, "FEEDSYN0000000001", "Gray", VehicleStatus.AVAILABLE, "18000.00");
+
+        String syncVersion = mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Sync-Version"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Sync-Version");
+        assertTrue(Long.parseLong(syncVersion) >= changeVersionOf("FEEDSYN0000000001", 0));
+
+        createVehicle("Feedcar", "Zeta", 2022, "FEEDSYN0000000002", "Gray", VehicleStatus.AVAILABLE, "19000.00");
+
+        mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", syncVersion))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].vehicle.vin", contains("FEEDSYN0000000002")));
+    }
+
+    @Test
+    @DisplayName("Should page vehicle changes with cursor")
+    void shouldPageVehicleChangesWithCursor() throws Exception {
+        createVehicle("Feedcar", "Epsilon", 2021, "FEEDPAG0000000001", "Gray", VehicleStatus.AVAILABLE, "18000.00");
+        long since = changeVersionOf("FEEDPAG0000000001", 0) - 1;
+        createVehicle("Feedcar", "Epsilon", 2022, "FEEDPAG0000000002", "Gray", VehicleStatus.AVAILABLE, "19000.00");
+        createVehicle("Feedcar", "Epsilon", 2023, "FEEDPAG0000000003", "Gray", VehicleStatus.AVAILABLE, "20000.00");
+
+        String nextCursor = mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", String.valueOf(since))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].vehicle.vin", contains("FEEDPAG0000000001", "FEEDPAG0000000002")))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", String.valueOf(since))
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].vehicle.vin", contains("FEEDPAG0000000003")))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/v1/vehicles/changes")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .param("since", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get all sold vehicles")
     void shouldGetAllSoldVehicles() throws Exception {
@@ -441,4 +727,194 @@ class VehicleControllerIntegrationTest {
                 .andExpect(jsonPath("$.error").value("Forbidden"))
                 .andExpect(jsonPath("$.message").value(containsString("permission")));
     }
+
+    @Test
+    @DisplayName("Should import NDJSON vehicles and report duplicates and invalid rows")
+    void shouldImportNdjsonVehiclesAndReportDuplicatesAndInvalidRows() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createVehicleDTO)))
+                .andExpect(status().isOk());
+
+        String body = """
+                {"make":"Toyota","model":"Corolla","year":2022,"vin":"IMPORT0000000001","color":"White","status":"AVAILABLE","price":30000.00}
+                {"make":"Honda","model":"Civic","year":2023,"vin":"1HGBH41JXMN109186","color":"Black","status":"AVAILABLE","price":25000.00}
+                {"make":"","model":"Civic","year":2023,"vin":"IMPORT0000000002","status":"AVAILABLE","price":25000.00}
+                {"make":"Toyota","model":"Corolla","year":2022,"vin":"IMPORT0000000001","status":"AVAILABLE","price":30000.00}
+                not json
+                """;
+
+        mockMvc.perform(post("/api/v1/vehicles/import")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[0].id").exists())
+                .andExpect(jsonPath("$.rows[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.rows[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.rows[2].message").value("Vehicle make cannot be null or empty"))
+                .andExpect(jsonPath("$.rows[3].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.rows[4].line").value(5))
+                .andExpect(jsonPath("$.rows[4].status").value("INVALID"));
+
+        mockMvc.perform(get("/api/v1/vehicles/{vin}", "IMPORT0000000001")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.model").value("Corolla"));
+    }
+
+    @Test
+    @DisplayName("Should import CSV vehicles across several chunks")
+    void shouldImportCsvVehiclesAcrossSeveralChunks() throws Exception {
+        StringBuilder body = new StringBuilder("make,model,year,vin,color,status,price\n");
+        for (int i = 0; i < 1_200; i++) {
+            body.append("Honda,Civic,2023,").append(String.format("CSVIMPORT%08d", i)).append(",Black,AVAILABLE,25000.00\n");
+        }
+
+        mockMvc.perform(post("/api/v1/vehicles/import")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType("text/csv")
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1200))
+                .andExpect(jsonPath("$.created").value(1200))
+                .andExpect(jsonPath("$.rows[1199].line").value(1201));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when CSV header is missing required columns")
+    void shouldReturn400WhenCsvHeaderIsMissingRequiredColumns() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles/import")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType("text/csv")
+                        .content("make,model\nHonda,Civic\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("year, vin, status, price")));
+    }
+
+    @Test
+    @DisplayName("Should return 403 when non-admin user tries to import vehicles")
+    void shouldReturn403WhenNonAdminUserTriesToImportVehicles() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles/import")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .contentType("text/csv")
+                        .content("make,model,year,vin,color,status,price\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should answer conditional VIN lookup with 304 until the vehicle changes")
+    void shouldAnswerConditionalVinLookupWith304UntilTheVehicleChanges() throws Exception {
+        createVehicle("Etagcar", "Alpha", 2022, "ETAGVIN0000000001", "Blue", VehicleStatus.AVAILABLE, "21000.00");
+
+        var first = mockMvc.perform(get("/api/v1/vehicles/{vin}", "ETAGVIN0000000001")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", matchesPattern("\"\\d+\"")))
+                .andExpect(header().string("Cache-Control", containsString("no-cache")))
+                .andReturn()
+                .getResponse();
+        String etag = first.getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/vehicles/{vin}", "ETAGVIN0000000001")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        UpdateVehicleDTO updateDTO = new UpdateVehicleDTO();
+        updateDTO.setMake("Etagcar");
+        updateDTO.setModel("Alpha");
+        updateDTO.setYear(2022);
+        updateDTO.setColor("Blue");
+        updateDTO.setStatus(VehicleStatus.AVAILABLE);
+        updateDTO.setPrice(new BigDecimal("19900.00"));
+
+        mockMvc.perform(put("/api/v1/vehicles/{id}", objectMapper.readTree(first.getContentAsString()).get("id").asText())
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/vehicles/{vin}", "ETAGVIN0000000001")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.price").value(19900.00));
+    }
+
+    @Test
+    @DisplayName("Should answer conditional status list with 304 until a vehicle of that status is written")
+    void shouldAnswerConditionalStatusListWith304UntilAVehicleOfThatStatusIsWritten() throws Exception {
+        String availableEtag = mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"available-")))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        String soldEtag = mockMvc.perform(get("/api/v1/vehicles/sold")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("If-None-Match", availableEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        createVehicle("Etagcar", "Beta", 2023, "ETAGVIN0000000002", "Green", VehicleStatus.AVAILABLE, "500.00");
+
+        mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("If-None-Match", availableEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(availableEtag)))
+                .andExpect(jsonPath("$[*].vin", hasItem("ETAGVIN0000000002")));
+
+        mockMvc.perform(get("/api/v1/vehicles/sold")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("If-None-Match", soldEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should serve gzip-encoded vehicle list when client accepts it")
+    void shouldServeGzipEncodedVehicleListWhenClientAcceptsIt() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            createVehicle("Gzipcar", "Alpha", 2023, String.format("GZIPVIN%010d", i), "Black", VehicleStatus.AVAILABLE, "100.00");
+        }
+
+        byte[] compressed = mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt())
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            JsonNode vehicles = objectMapper.readTree(in.readAllBytes());
+            assertTrue(vehicles.findValuesAsText("vin").contains("GZIPVIN0000000000"));
+        }
+
+        mockMvc.perform(get("/api/v1/vehicles/available")
+                        .with(JwtTestHelper.createRegularUserJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$[*].vin", hasItem("GZIPVIN0000000000")));
+    }
 }
@@ -0,0 +1,105 @@
+package br.com.dealership.integration.vehicle;
+
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepositoryAdapter;
+import br.com.dealership.modules.vehicle.adapter.http.dto.CreateVehicleDTO;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
+import br.com.dealership.utils.JwtTestHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// not @Transactional: the service transaction has to commit for the INSERT to reach the database
+@SpringBootTest
+@ActiveProfiles("test")
+class VehicleDuplicateVinIntegrationTest {
+
+    private static final String VIN = "UNKNOWNTOFILTER01";
+
+    private static final String INSERT_VEHICLE = """
+            INSERT INTO "vehicles" ("id", "make", "model", "year", "vin", "color", "status", "price", "change_version")
+            VALUES (?, 'Ford', 'Focus', 2020, ?, 'Blue', 'AVAILABLE', 15000.00, 1)
+            """;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private KnownVinsPort knownVinsPort;
+
+    @Autowired
+    private VehicleRepositoryAdapter vehicleRepositoryAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM \"vehicles\"");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should return the duplicate VIN conflict when the VIN was written behind the filter's back")
+    void shouldReturnTheDuplicateVinConflictWhenTheVinWasWrittenBehindTheFiltersBack() throws Exception {
+        jdbcTemplate.update(INSERT_VEHICLE, UUID.randomUUID(), VIN);
+        assertFalse(knownVinsPort.mightContain(VIN));
+
+        CreateVehicleDTO vehicle = new CreateVehicleDTO("Honda", "Civic", 2023, VIN, "Black",
+                VehicleStatus.AVAILABLE, new BigDecimal("25000.00"));
+
+        mockMvc.perform(post("/api/v1/vehicles")
+                        .with(JwtTestHelper.createAdminJwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(vehicle)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Vehicle with VIN '" + VIN + "' already exists"));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"vehicles\" WHERE \"vin\" = ?", Long.class, VIN));
+    }
+
+    @Test
+    @DisplayName("Should keep other integrity violations apart from the duplicate VIN")
+    void shouldKeepOtherIntegrityViolationsApartFromTheDuplicateVin() {
+        Vehicle vehicle = new Vehicle(null, "Honda", "Civic", 2023, "TOOLONGCOLOR00001", "B".repeat(300),
+                VehicleStatus.AVAILABLE, new BigDecimal("25000.00"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> vehicleRepositoryAdapter.saveVehicle(vehicle));
+    }
+}
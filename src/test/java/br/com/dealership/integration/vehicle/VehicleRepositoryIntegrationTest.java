@@ -0,0 +1,54 @@
+package br.com.dealership.integration.vehicle;
+
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepository;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class VehicleRepositoryIntegrationTest {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should load vehicle summary by VIN without managing the entity")
+    void shouldLoadVehicleSummaryByVinWithoutManagingTheEntity() {
+        VehicleEntity saved = vehicleRepository.saveAndFlush(new VehicleEntity(null, "Honda", "Civic", 2023,
+                "1HGBH41JXMN109186", "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000.00")));
+        entityManager.clear();
+
+        Optional<FindVehicleDTO> summary = vehicleRepository.findSummaryByVin("1HGBH41JXMN109186");
+
+        assertTrue(summary.isPresent());
+        assertEquals(saved.getId(), summary.get().vehicleId());
+        assertEquals("1HGBH41JXMN109186", summary.get().vin());
+        assertEquals(VehicleStatus.AVAILABLE, summary.get().status());
+        assertEquals(0, new BigDecimal("25000.00").compareTo(summary.get().price()));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @DisplayName("Should return empty summary for unknown VIN")
+    void shouldReturnEmptySummaryForUnknownVin() {
+        assertTrue(vehicleRepository.findSummaryByVin("UNKNOWN").isEmpty());
+    }
+}
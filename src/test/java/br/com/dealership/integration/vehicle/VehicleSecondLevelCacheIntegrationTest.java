@@ -0,0 +1,123 @@
+package br.com.dealership.integration.vehicle;
+
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepository;
+import br.com.dealership.modules.vehicle.adapter.database.repositories.VehicleRepositoryAdapter;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "dealership.vehicle-cache.ttl=45s")
+@ActiveProfiles("test")
+class VehicleSecondLevelCacheIntegrationTest {
+
+    private static final String VIN = "2T1BURHE0JC034461";
+
+    @Autowired
+    private VehicleRepositoryAdapter vehicleRepositoryAdapter;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("vehicleRegionCacheManager")
+    private CacheManager regionCacheManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        Vehicle vehicle = new Vehicle(null, "Toyota", "Corolla", 2018, VIN, "Silver", VehicleStatus.AVAILABLE, new BigDecimal("18000.00"));
+        vehicleId = transaction.execute(status -> vehicleRepositoryAdapter.saveVehicle(vehicle)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> vehicleRepository.deleteById(vehicleId));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeat VIN lookups from the second-level cache without SQL")
+    void shouldServeRepeatVinLookupsFromTheSecondLevelCacheWithoutSql() {
+        transaction.execute(status -> vehicleRepositoryAdapter.getVehicleByVin(VIN));
+        long statements = statistics.getPrepareStatementCount();
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+
+        for (int i = 0; i < 3; i++) {
+            Vehicle vehicle = transaction.execute(status -> vehicleRepositoryAdapter.getVehicleByVin(VIN)).orElseThrow();
+            assertEquals(vehicleId, vehicle.getId());
+        }
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(naturalIdHits + 3, statistics.getNaturalIdCacheHitCount());
+        assertTrue(entityManagerFactory.getCache().contains(VehicleEntity.class, vehicleId));
+    }
+
+    @Test
+    @DisplayName("Should serve repeat status listings from the query cache without SQL")
+    void shouldServeRepeatStatusListingsFromTheQueryCacheWithoutSql() {
+        transaction.execute(status -> vehicleRepositoryAdapter.getPageByStatus(VehicleStatus.AVAILABLE, null, 10));
+        long statements = statistics.getPrepareStatementCount();
+
+        var page = transaction.execute(status -> vehicleRepositoryAdapter.getPageByStatus(VehicleStatus.AVAILABLE, null, 10));
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertTrue(page.items().stream().anyMatch(vehicle -> vehicleId.equals(vehicle.getId())));
+    }
+
+    @Test
+    @DisplayName("Should drop the cached status listing once a vehicle is sold")
+    void shouldDropTheCachedStatusListingOnceAVehicleIsSold() {
+        transaction.execute(status -> vehicleRepositoryAdapter.getPageByStatus(VehicleStatus.AVAILABLE, null, 10));
+
+        transaction.execute(status -> vehicleRepositoryAdapter.markAsSoldIfAvailable(vehicleId));
+        var page = transaction.execute(status -> vehicleRepositoryAdapter.getPageByStatus(VehicleStatus.AVAILABLE, null, 10));
+
+        assertTrue(page.items().stream().noneMatch(vehicle -> vehicleId.equals(vehicle.getId())));
+        assertEquals(VehicleStatus.SOLD, transaction.execute(status -> vehicleRepositoryAdapter.getVehicleByVin(VIN)).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should expire the second-level cache regions after the vehicle cache TTL")
+    void shouldExpireTheSecondLevelCacheRegionsAfterTheVehicleCacheTtl() {
+        for (String region : List.of(VehicleEntity.CACHE_REGION, VehicleEntity.NATURAL_ID_CACHE_REGION, VehicleEntity.STATUS_QUERY_CACHE_REGION)) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> cache = regionCacheManager.getCache(region)
+                    .unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+
+            assertEquals(Duration.ofSeconds(45), cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter(), region);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.dealership.modules.sale.adapter.events;
+
+import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaleEventHubTest {
+
+    private static final SaleStatusChange COMPLETED = new SaleStatusChange(1L, SaleStatus.COMPLETED, LocalDateTime.of(2024, 1, 15, 10, 0));
+    private static final SaleStatusChange PENDING = new SaleStatusChange(1L, SaleStatus.PENDING, null);
+
+    private static class RecordingSubscriber implements SaleEventHub.Subscriber {
+        final List<SaleStatusChange> received = new ArrayList<>();
+        int heartbeats;
+        boolean closed;
+        boolean failing;
+
+        @Override
+        public void send(SaleStatusChange change) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            received.add(change);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver change only to subscribers of the same sale")
+    void shouldDeliverChangeOnlyToSubscribersOfTheSameSale() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber same = new RecordingSubscriber();
+        RecordingSubscriber other = new RecordingSubscriber();
+        hub.subscribe(1L, same);
+        hub.subscribe(2L, other);
+
+        hub.publish(COMPLETED);
+
+        assertEquals(List.of(COMPLETED), same.received);
+        assertTrue(other.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should close subscription after delivering a final status")
+    void shouldCloseSubscriptionAfterDeliveringAFinalStatus() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        SaleEventHub.Subscription subscription = hub.subscribe(1L, subscriber);
+
+        subscription.offer(PENDING);
+        assertFalse(subscriber.closed);
+
+        hub.publish(COMPLETED);
+        subscription.offer(PENDING);
+
+        assertEquals(List.of(PENDING, COMPLETED), subscriber.received);
+        assertTrue(subscriber.closed);
+        assertTrue(subscription.isClosed());
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should dispatch change published inside a transaction only after commit")
+    void shouldDispatchChangePublishedInsideATransactionOnlyAfterCommit() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.subscribe(1L, subscriber);
+        TransactionSynchronizationManager.initSynchronization();
+
+        hub.publish(COMPLETED);
+        assertTrue(subscriber.received.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(COMPLETED), subscriber.received);
+    }
+
+    @Test
+    @DisplayName("Should drop change when the transaction rolls back")
+    void shouldDropChangeWhenTheTransactionRollsBack() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.subscribe(1L, subscriber);
+        TransactionSynchronizationManager.initSynchronization();
+
+        hub.publish(COMPLETED);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(subscriber.received.isEmpty());
+        assertFalse(subscriber.closed);
+    }
+
+    @Test
+    @DisplayName("Should evict subscriber whose buffer overflows without blocking the publisher")
+    void shouldEvictSubscriberWhoseBufferOverflowsWithoutBlockingThePublisher() {
+        List<Runnable> pending = new ArrayList<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SaleEventHub hub = new SaleEventHub(pending::add, 2);
+        hub.bindTo(registry);
+        RecordingSubscriber slow = new RecordingSubscriber();
+        SaleEventHub.Subscription subscription = hub.subscribe(1L, slow);
+
+        subscription.offer(PENDING);
+        subscription.offer(PENDING);
+        subscription.offer(PENDING);
+
+        assertTrue(slow.closed);
+        assertEquals(0, hub.subscriberCount());
+        assertEquals(1.0, registry.counter(SaleEventHub.EVICTIONS_METRIC).count());
+
+        pending.forEach(Runnable::run);
+        assertTrue(slow.received.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should send heartbeat to idle subscribers")
+    void shouldSendHeartbeatToIdleSubscribers() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        hub.subscribe(1L, subscriber);
+
+        hub.heartbeat();
+        hub.heartbeat();
+
+        assertEquals(2, subscriber.heartbeats);
+        assertFalse(subscriber.closed);
+    }
+
+    @Test
+    @DisplayName("Should remove subscriber when sending fails")
+    void shouldRemoveSubscriberWhenSendingFails() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        subscriber.failing = true;
+        hub.subscribe(1L, subscriber);
+
+        hub.publish(PENDING);
+
+        assertTrue(subscriber.closed);
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should stop delivering to cancelled subscription")
+    void shouldStopDeliveringToCancelledSubscription() {
+        SaleEventHub hub = new SaleEventHub(Runnable::run, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        SaleEventHub.Subscription subscription = hub.subscribe(1L, subscriber);
+
+        subscription.cancel();
+        hub.publish(COMPLETED);
+
+        assertTrue(subscriber.received.isEmpty());
+        assertEquals(0, hub.subscriberCount());
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.dealership.modules.sale.application.services;
+
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus;
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
+import br.com.dealership.modules.sale.domain.ports.in.SaleServicePort;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookWorkerTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private PaymentWebhookQueuePort queue;
+
+    @Mock
+    private SaleServicePort saleService;
+
+    private PaymentWebhookWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PaymentWebhookWorker(queue, saleService, TransactionOperations.withoutTransaction(), Runnable::run,
+                2, LEASE, 3, Duration.ofSeconds(2));
+    }
+
+    private PaymentWebhookEvent event(long id, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PaymentWebhookEvent(id, 10L + id, true, new CPF("12345678909"), PaymentWebhookStatus.PROCESSING, attempts, null, now, now);
+    }
+
+    @Test
+    @DisplayName("Should pay sale and acknowledge each claimed event")
+    void shouldPaySaleAndAcknowledgeEachClaimedEvent() {
+        when(queue.claimBatch(2, LEASE)).thenReturn(List.of(event(1L, 1), event(2L, 1)));
+
+        int processed = worker.drain();
+
+        assertEquals(2, processed);
+        verify(saleService).paySale("11", true, "12345678909");
+        verify(saleService).paySale("12", true, "12345678909");
+        verify(queue).acknowledge(1L);
+        verify(queue).acknowledge(2L);
+        verify(queue, never()).retryAt(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep draining while batches are full")
+    void shouldKeepDrainingWhileBatchesAreFull() {
+        when(queue.claimBatch(2, LEASE))
+                .thenReturn(List.of(event(1L, 1), event(2L, 1)))
+                .thenReturn(List.of(event(3L, 1)));
+
+        worker.drainAll();
+
+        verify(queue, times(2)).claimBatch(2, LEASE);
+        verify(queue, times(3)).acknowledge(any());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter event immediately on business rule violation")
+    void shouldDeadLetterEventImmediatelyOnBusinessRuleViolation() {
+        when(queue.claimBatch(2, LEASE)).thenReturn(List.of(event(1L, 1)));
+        doThrow(new InvalidSaleStatusException("Sale with id 11 is not in PENDING status"))
+                .when(saleService).paySale("11", true, "12345678909");
+
+        worker.drain();
+
+        verify(queue).deadLetter(1L, "Sale with id 11 is not in PENDING status");
+        verify(queue, never()).acknowledge(any());
+        verify(queue, never()).retryAt(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should schedule retry with backoff on transient failure")
+    void shouldScheduleRetryWithBackoffOnTransientFailure() {
+        when(queue.claimBatch(2, LEASE)).thenReturn(List.of(event(1L, 2)));
+        doThrow(new RuntimeException("connection reset")).when(saleService).paySale(anyString(), any(), anyString());
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.drain();
+
+        verify(queue).retryAt(eq(1L), argThat(at -> !at.isBefore(before.plusSeconds(4))), eq("connection reset"));
+        verify(queue, never()).deadLetter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should dead-letter event after max attempts")
+    void shouldDeadLetterEventAfterMaxAttempts() {
+        when(queue.claimBatch(2, LEASE)).thenReturn(List.of(event(1L, 3)));
+        doThrow(new RuntimeException("connection reset")).when(saleService).paySale(anyString(), any(), anyString());
+
+        worker.drain();
+
+        verify(queue).deadLetter(1L, "connection reset");
+        verify(queue, never()).retryAt(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should shut down its own executor when closed")
+    void shouldShutDownItsOwnExecutorWhenClosed() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        PaymentWebhookWorker owner = new PaymentWebhookWorker(queue, saleService, TransactionOperations.withoutTransaction(), executor,
+                2, LEASE, 3, Duration.ofSeconds(2));
+
+        owner.close();
+
+        assertTrue(executor.isTerminated());
+    }
+}
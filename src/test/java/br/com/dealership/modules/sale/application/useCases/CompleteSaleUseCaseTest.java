@@ -2,9 +2,11 @@ package br.com.dealership.modules.sale.application.useCases;
 
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.SaleStatusChange;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleStatusException;
 import br.com.dealership.modules.sale.domain.exception.SaleNotFoundException;
+import br.com.dealership.modules.sale.domain.ports.out.SaleEventPublisherPort;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +16,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +30,9 @@ class CompleteSaleUseCaseTest {
     @Mock
     private SaleRepositoryPort repository;
 
+    @Mock
+    private SaleEventPublisherPort events;
+
     @InjectMocks
     private CompleteSaleUseCase useCase;
 
@@ -49,28 +56,33 @@ class CompleteSaleUseCaseTest {
     @DisplayName("Should complete sale successfully when payment is successful")
     void shouldCompleteSaleSuccessfullyWhenPaymentIsSuccessful() {
         when(repository.getSaleById("1")).thenReturn(saleOrder);
-        when(repository.save(any(SaleOrder.class))).thenReturn(saleOrder);
+        when(repository.updateStatusIfPending(eq(1L), eq(SaleStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(true);
 
         SaleOrder result = useCase.execute("1", true);
 
         assertNotNull(result);
         assertEquals(SaleStatus.COMPLETED, result.getStatus());
+        assertNotNull(result.getSaleDate());
         verify(repository).getSaleById("1");
-        verify(repository).save(saleOrder);
+        verify(repository).updateStatusIfPending(1L, SaleStatus.COMPLETED, result.getSaleDate());
+        verify(repository, never()).save(any());
+        verify(events).publish(new SaleStatusChange(1L, SaleStatus.COMPLETED, result.getSaleDate()));
     }
 
     @Test
     @DisplayName("Should cancel sale when payment fails")
     void shouldCancelSaleWhenPaymentFails() {
         when(repository.getSaleById("1")).thenReturn(saleOrder);
-        when(repository.save(any(SaleOrder.class))).thenReturn(saleOrder);
+        when(repository.updateStatusIfPending(1L, SaleStatus.CANCELED, null)).thenReturn(true);
 
         SaleOrder result = useCase.execute("1", false);
 
         assertNotNull(result);
         assertEquals(SaleStatus.CANCELED, result.getStatus());
         verify(repository).getSaleById("1");
-        verify(repository).save(saleOrder);
+        verify(repository).updateStatusIfPending(1L, SaleStatus.CANCELED, null);
+        verify(repository, never()).save(any());
+        verify(events).publish(new SaleStatusChange(1L, SaleStatus.CANCELED, null));
     }
 
     @Test
@@ -116,4 +128,28 @@ class CompleteSaleUseCaseTest {
         verify(repository).getSaleById("1");
         verify(repository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Should complete an already loaded sale without reading it again")
+    void shouldCompleteAnAlreadyLoadedSaleWithoutReadingItAgain() {
+        when(repository.updateStatusIfPending(eq(1L), eq(SaleStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(true);
+
+        SaleOrder result = useCase.execute(saleOrder, true);
+
+        assertEquals(SaleStatus.COMPLETED, result.getStatus());
+        verify(repository, never()).getSaleById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleStatusException when conditional update loses the race")
+    void shouldThrowInvalidSaleStatusExceptionWhenConditionalUpdateLosesTheRace() {
+        when(repository.updateStatusIfPending(eq(1L), eq(SaleStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(false);
+
+        Exception exception = assertThrows(InvalidSaleStatusException.class, () -> {
+            useCase.execute(saleOrder, true);
+        });
+
+        assertEquals("Sale with id 1 is no longer in PENDING status", exception.getMessage());
+        verify(events, never()).publish(any());
+    }
 }
@@ -0,0 +1,57 @@
+package br.com.dealership.modules.sale.application.useCases;
+
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookEvent;
+import br.com.dealership.modules.sale.domain.entities.PaymentWebhookStatus;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
+import br.com.dealership.modules.sale.domain.ports.out.PaymentWebhookQueuePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnqueuePaymentWebhookUseCaseTest {
+
+    @Mock
+    private PaymentWebhookQueuePort queue;
+
+    @InjectMocks
+    private EnqueuePaymentWebhookUseCase useCase;
+
+    @Test
+    @DisplayName("Should enqueue pending webhook event")
+    void shouldEnqueuePendingWebhookEvent() {
+        when(queue.enqueue(any(PaymentWebhookEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PaymentWebhookEvent result = useCase.execute("1", true, "12345678909");
+
+        assertEquals(1L, result.getSaleId());
+        assertTrue(result.isPaymentSuccess());
+        assertEquals("12345678909", result.getPayerCpf().getValue());
+        assertEquals(PaymentWebhookStatus.PENDING, result.getStatus());
+        assertEquals(0, result.getAttempts());
+        verify(queue).enqueue(result);
+    }
+
+    @Test
+    @DisplayName("Should reject webhook with non-numeric sale id without enqueuing")
+    void shouldRejectWebhookWithNonNumericSaleIdWithoutEnqueuing() {
+        assertThrows(InvalidSaleException.class, () -> useCase.execute("abc", true, "12345678909"));
+
+        verify(queue, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Should reject webhook without payment status without enqueuing")
+    void shouldRejectWebhookWithoutPaymentStatusWithoutEnqueuing() {
+        assertThrows(InvalidSaleException.class, () -> useCase.execute("1", null, "12345678909"));
+
+        verify(queue, never()).enqueue(any());
+    }
+}
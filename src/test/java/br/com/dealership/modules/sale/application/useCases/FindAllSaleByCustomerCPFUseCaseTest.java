@@ -1,10 +1,12 @@
 package br.com.dealership.modules.sale.application.useCases;
 
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -132,4 +134,37 @@ class FindAllSaleByCustomerCPFUseCaseTest {
         assertTrue(exception.getMessage().contains("Invalid CPF format"));
         verify(saleRepositoryPort, never()).getAllSalesByCustomerCpf(any());
     }
+
+    @Test
+    @DisplayName("Should get page of sales filtered by normalized customer CPF")
+    void shouldGetPageOfSalesFilteredByNormalizedCustomerCpf() {
+        SaleFilter filter = new SaleFilter(null, SaleStatus.PENDING, null, null);
+        SaleFilter expectedFilter = filter.withCustomerCpf(new CPF("12345678909"));
+        CursorPage<SaleOrder> expectedPage = new CursorPage<>(Collections.emptyList(), null);
+        when(saleRepositoryPort.getSalesPage(expectedFilter, null, 10)).thenReturn(expectedPage);
+
+        CursorPage<SaleOrder> result = useCase.execute("123.456.789-09", filter, null, 10);
+
+        assertEquals(expectedPage, result);
+        verify(saleRepositoryPort).getSalesPage(expectedFilter, null, 10);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleException when paging with invalid CPF")
+    void shouldThrowInvalidSaleExceptionWhenPagingWithInvalidCpf() {
+        Exception exception = assertThrows(InvalidSaleException.class, () -> {
+            useCase.execute("00000000000", SaleFilter.none(), null, 10);
+        });
+
+        assertTrue(exception.getMessage().contains("Invalid CPF format"));
+        verify(saleRepositoryPort, never()).getSalesPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleException when paging with out of range limit")
+    void shouldThrowInvalidSaleExceptionWhenPagingWithOutOfRangeLimit() {
+        assertThrows(InvalidSaleException.class, () -> useCase.execute("12345678909", null, null, 0));
+
+        verify(saleRepositoryPort, never()).getSalesPage(any(), any(), anyInt());
+    }
 }
@@ -1,9 +1,13 @@
 package br.com.dealership.modules.sale.application.useCases;
 
+import br.com.dealership.modules.sale.domain.entities.SaleCursor;
+import br.com.dealership.modules.sale.domain.entities.SaleFilter;
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.ports.out.SaleRepositoryPort;
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -68,4 +73,58 @@ class FindAllSalesUseCaseTest {
 
         verify(saleRepositoryPort, times(1)).getAllSales();
     }
+
+    @Test
+    @DisplayName("Should get page of sales with filter and decoded cursor")
+    void shouldGetPageOfSalesWithFilterAndDecodedCursor() {
+        SaleFilter filter = new SaleFilter(null, SaleStatus.COMPLETED, LocalDateTime.of(2025, 1, 1, 0, 0), null);
+        SaleCursor cursor = new SaleCursor(LocalDateTime.of(2025, 2, 1, 10, 30), 7L);
+        SaleOrder sale = new SaleOrder(8L, "John Doe", new CPF("12345678909"), "VIN1", 25000.0, UUID.randomUUID(), SaleStatus.COMPLETED, LocalDateTime.of(2025, 2, 2, 9, 0));
+        CursorPage<SaleOrder> expectedPage = new CursorPage<>(List.of(sale), null);
+        when(saleRepositoryPort.getSalesPage(filter, cursor, 20)).thenReturn(expectedPage);
+
+        CursorPage<SaleOrder> result = useCase.execute(filter, cursor.encode(), 20);
+
+        assertEquals(expectedPage, result);
+        verify(saleRepositoryPort).getSalesPage(filter, cursor, 20);
+    }
+
+    @Test
+    @DisplayName("Should use empty filter when filter is null")
+    void shouldUseEmptyFilterWhenFilterIsNull() {
+        CursorPage<SaleOrder> expectedPage = new CursorPage<>(Collections.emptyList(), null);
+        when(saleRepositoryPort.getSalesPage(SaleFilter.none(), null, 50)).thenReturn(expectedPage);
+
+        CursorPage<SaleOrder> result = useCase.execute(null, null, 50);
+
+        assertTrue(result.items().isEmpty());
+        verify(saleRepositoryPort).getSalesPage(SaleFilter.none(), null, 50);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleException when limit is out of range")
+    void shouldThrowInvalidSaleExceptionWhenLimitIsOutOfRange() {
+        assertThrows(InvalidSaleException.class, () -> useCase.execute(SaleFilter.none(), null, 0));
+        assertThrows(InvalidSaleException.class, () -> useCase.execute(SaleFilter.none(), null, FindAllSalesUseCase.MAX_PAGE_SIZE + 1));
+
+        verify(saleRepositoryPort, never()).getSalesPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleException when date range is inverted")
+    void shouldThrowInvalidSaleExceptionWhenDateRangeIsInverted() {
+        SaleFilter filter = new SaleFilter(null, null, LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        assertThrows(InvalidSaleException.class, () -> useCase.execute(filter, null, 10));
+
+        verify(saleRepositoryPort, never()).getSalesPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(SaleFilter.none(), "not-a-cursor", 10));
+
+        verify(saleRepositoryPort, never()).getSalesPage(any(), any(), anyInt());
+    }
 }
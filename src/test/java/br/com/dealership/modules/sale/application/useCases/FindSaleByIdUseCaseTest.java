@@ -2,6 +2,7 @@ package br.com.dealership.modules.sale.application.useCases;
 
 import br.com.dealership.modules.sale.domain.entities.SaleOrder;
 import br.com.dealership.modules.sale.domain.entities.SaleStatus;
+import br.com.dealership.modules.sale.domain.entities.VersionedSaleOrder;
 import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
 import br.com.dealership.modules.sale.domain.exception.InvalidSaleException;
 import br.com.dealership.modules.sale.domain.exception.SaleNotFoundException;
@@ -14,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,4 +103,41 @@ class FindSaleByIdUseCaseTest {
         assertEquals("Sale not found with ID: non-existent-id", exception.getMessage());
         verify(saleRepositoryPort).getSaleById("non-existent-id");
     }
+
+    @Test
+    @DisplayName("Should find sale version without loading the sale")
+    void shouldFindSaleVersionWithoutLoadingTheSale() {
+        when(saleRepositoryPort.getSaleVersionById("1")).thenReturn(Optional.of(1L));
+
+        assertEquals(Optional.of(1L), useCase.findVersion("1"));
+        verify(saleRepositoryPort, never()).getSaleById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSaleException when version lookup ID is blank")
+    void shouldThrowInvalidSaleExceptionWhenVersionLookupIdIsBlank() {
+        assertThrows(InvalidSaleException.class, () -> useCase.findVersion(" "));
+
+        verifyNoInteractions(saleRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should find sale and its version in one read")
+    void shouldFindSaleAndItsVersionInOneRead() {
+        when(saleRepositoryPort.getVersionedSaleById("1")).thenReturn(Optional.of(new VersionedSaleOrder(3L, saleOrder)));
+
+        VersionedSaleOrder result = useCase.executeVersioned("1");
+
+        assertEquals(3L, result.version());
+        assertSame(saleOrder, result.saleOrder());
+        verify(saleRepositoryPort, never()).getSaleVersionById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw SaleNotFoundException when versioned sale does not exist")
+    void shouldThrowSaleNotFoundExceptionWhenVersionedSaleDoesNotExist() {
+        when(saleRepositoryPort.getVersionedSaleById("2")).thenReturn(Optional.empty());
+
+        assertThrows(SaleNotFoundException.class, () -> useCase.executeVersioned("2"));
+    }
 }
@@ -0,0 +1,136 @@
+package br.com.dealership.modules.sale.domain.entities;
+
+import br.com.dealership.modules.sale.domain.entities.valueobjects.CPF;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CPFEquivalenceTest {
+
+    private static final long SEED = 20240115L;
+
+    private static String legacyParse(String value) {
+        String cleanCpf = value.replaceAll("[^0-9]", "");
+
+        if (cleanCpf.length() != 11) {
+            return null;
+        }
+
+        if (cleanCpf.matches("(\\d)\\1{10}")) {
+            return null;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += Character.getNumericValue(cleanCpf.charAt(i)) * (10 - i);
+        }
+        int firstDigit = 11 - (sum % 11);
+        firstDigit = firstDigit >= 10 ? 0 : firstDigit;
+
+        if (Character.getNumericValue(cleanCpf.charAt(9)) != firstDigit) {
+            return null;
+        }
+
+        sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += Character.getNumericValue(cleanCpf.charAt(i)) * (11 - i);
+        }
+        int secondDigit = 11 - (sum % 11);
+        secondDigit = secondDigit >= 10 ? 0 : secondDigit;
+
+        return Character.getNumericValue(cleanCpf.charAt(10)) == secondDigit ? cleanCpf : null;
+    }
+
+    private static String parse(String value) {
+        try {
+            return new CPF(value).getValue();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void assertEquivalent(String value) {
+        assertEquals(legacyParse(value), parse(value), () -> "Mismatch for input '" + value + "'");
+    }
+
+    private static String formatted(String digits) {
+        return digits.substring(0, 3) + "." + digits.substring(3, 6) + "." + digits.substring(6, 9) + "-" + digits.substring(9);
+    }
+
+    @Test
+    @DisplayName("Should match legacy validation for every check-digit pair of sampled prefixes")
+    void shouldMatchLegacyValidationForEveryCheckDigitPairOfSampledPrefixes() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int accepted = 0;
+
+        for (int sample = 0; sample < 20_000; sample++) {
+            String prefix = String.format("%09d", random.nextInt(1_000_000_000));
+            for (int suffix = 0; suffix < 100; suffix++) {
+                String digits = prefix + String.format("%02d", suffix);
+                assertEquivalent(digits);
+                if (legacyParse(digits) != null) {
+                    accepted++;
+                    assertEquivalent(formatted(digits));
+                }
+            }
+        }
+
+        assertTrue(accepted >= 19_000, "Sample should contain valid CPFs for almost every prefix");
+    }
+
+    @Test
+    @DisplayName("Should match legacy validation for uniformly sampled 11-digit numbers")
+    void shouldMatchLegacyValidationForUniformlySampled11DigitNumbers() {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int sample = 0; sample < 500_000; sample++) {
+            String digits = String.format("%011d", random.nextLong(100_000_000_000L));
+            assertEquivalent(digits);
+            assertEquivalent(formatted(digits));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match legacy validation for repeated digits and length edge cases")
+    void shouldMatchLegacyValidationForRepeatedDigitsAndLengthEdgeCases() {
+        for (char digit = '0'; digit <= '9'; digit++) {
+            String repeated = String.valueOf(digit).repeat(11);
+            assertEquivalent(repeated);
+            assertEquivalent(formatted(repeated));
+            assertEquivalent(String.valueOf(digit).repeat(10));
+            assertEquivalent(String.valueOf(digit).repeat(12));
+        }
+
+        assertEquivalent("1234567890");
+        assertEquivalent("123456789090");
+        assertEquivalent("012345678909");
+        assertEquivalent("12345678909 ");
+        assertEquivalent(" 12345678909");
+        assertEquivalent("1234567890 9");
+    }
+
+    @Test
+    @DisplayName("Should match legacy validation for arbitrary separators and non-ASCII digits")
+    void shouldMatchLegacyValidationForArbitrarySeparatorsAndNonAsciiDigits() {
+        String[] inputs = {
+                "123.456.789-09",
+                "123 456 789 09",
+                "123-456-789/09",
+                "CPF: 123.456.789-09",
+                "1a2b3c4d5e6f7g8h9i0j9",
+                "111.444.777-35",
+                "529.982.247-25",
+                "abc.def.ghi-jk",
+                "١٢٣٤٥٦٧٨٩٠٩",
+                "12345678909١",
+                "１２３４５６７８９０９"
+        };
+
+        for (String input : inputs) {
+            assertEquivalent(input);
+        }
+    }
+}
@@ -166,4 +166,33 @@ class CPFTest {
 
         assertEquals(cpf, cpf);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should keep leading zeros when CPF is backed by a number")
+    void shouldKeepLeadingZerosWhenCpfIsBackedByANumber() {
+        CPF cpf = new CPF("012.345.678-90");
+
+        assertEquals(1234567890L, cpf.toLong());
+        assertEquals("01234567890", cpf.getValue());
+        assertEquals("012.345.678-90", cpf.getFormattedValue());
+    }
+
+    @Test
+    @DisplayName("Should create CPF from its numeric value")
+    void shouldCreateCpfFromItsNumericValue() {
+        CPF cpf = new CPF(12345678909L);
+
+        assertEquals("12345678909", cpf.getValue());
+        assertEquals(new CPF("123.456.789-09"), cpf);
+        assertEquals(new CPF("123.456.789-09").hashCode(), cpf.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when numeric CPF is invalid")
+    void shouldThrowExceptionWhenNumericCpfIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new CPF(12345678900L));
+        assertThrows(IllegalArgumentException.class, () -> new CPF(11111111111L));
+        assertThrows(IllegalArgumentException.class, () -> new CPF(-12345678909L));
+        assertThrows(IllegalArgumentException.class, () -> new CPF(123456789090L));
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.shared.dtos.FindVehicleDTO;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingVehicleRepositoryAdapterTest {
+
+    private static final String VIN = "1HGBH41JXMN109186";
+
+    @Mock
+    private VehicleRepositoryPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private VehicleCatalogVersions catalogVersions;
+
+    private CachingVehicleRepositoryAdapter adapter;
+
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersions = new VehicleCatalogVersions(Duration.ofSeconds(30), Clock.systemUTC());
+        adapter = new CachingVehicleRepositoryAdapter(delegate, catalogVersions, 100, Duration.ofSeconds(30), nanos::get);
+        vehicle = new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, VIN, "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated VIN lookups from cache")
+    void shouldServeRepeatedVinLookupsFromCache() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+
+        assertTrue(adapter.getVehicleByVin(VIN).isPresent());
+        assertTrue(adapter.getVehicleByVin(VIN).isPresent());
+
+        verify(delegate, times(1)).getVehicleByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated ID lookups from cache")
+    void shouldServeRepeatedIdLookupsFromCache() {
+        when(delegate.getVehicleById(vehicle.getId())).thenReturn(Optional.of(vehicle));
+
+        adapter.getVehicleById(vehicle.getId());
+        adapter.getVehicleById(vehicle.getId());
+
+        verify(delegate, times(1)).getVehicleById(vehicle.getId());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing vehicles")
+    void shouldNotCacheMissingVehicles() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.getVehicleByVin(VIN).isEmpty());
+        assertTrue(adapter.getVehicleByVin(VIN).isEmpty());
+
+        verify(delegate, times(2)).getVehicleByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should return copies so callers cannot mutate cached entries")
+    void shouldReturnCopiesSoCallersCannotMutateCachedEntries() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+
+        adapter.getVehicleByVin(VIN).orElseThrow().markAsSold();
+
+        assertEquals(VehicleStatus.AVAILABLE, adapter.getVehicleByVin(VIN).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reload entries after TTL expires")
+    void shouldReloadEntriesAfterTtlExpires() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+
+        adapter.getVehicleByVin(VIN);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        adapter.getVehicleByVin(VIN);
+
+        verify(delegate, times(2)).getVehicleByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should build vehicle summary from cached vehicle")
+    void shouldBuildVehicleSummaryFromCachedVehicle() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+
+        adapter.getVehicleByVin(VIN);
+        FindVehicleDTO summary = adapter.getVehicleSummaryByVin(VIN).orElseThrow();
+
+        assertEquals(vehicle.getId(), summary.vehicleId());
+        assertEquals(VehicleStatus.AVAILABLE, summary.status());
+        verify(delegate, never()).getVehicleSummaryByVin(any());
+    }
+
+    @Test
+    @DisplayName("Should pass vehicle summary lookups through on cache miss without caching them")
+    void shouldPassVehicleSummaryLookupsThroughOnCacheMissWithoutCachingThem() {
+        FindVehicleDTO summary = new FindVehicleDTO(vehicle.getId(), VIN, VehicleStatus.AVAILABLE, vehicle.getPrice());
+        when(delegate.getVehicleSummaryByVin(VIN)).thenReturn(Optional.of(summary));
+
+        assertEquals(summary, adapter.getVehicleSummaryByVin(VIN).orElseThrow());
+        assertEquals(summary, adapter.getVehicleSummaryByVin(VIN).orElseThrow());
+
+        verify(delegate, times(2)).getVehicleSummaryByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should invalidate VIN entries of bulk saved vehicles")
+    void shouldInvalidateVinEntriesOfBulkSavedVehicles() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+        when(delegate.saveVehicles(List.of(vehicle))).thenReturn(List.of(vehicle));
+
+        adapter.getVehicleByVin(VIN);
+        adapter.saveVehicles(List.of(vehicle));
+        adapter.getVehicleByVin(VIN);
+
+        verify(delegate, times(2)).getVehicleByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should invalidate VIN and ID entries when vehicle is saved")
+    void shouldInvalidateVinAndIdEntriesWhenVehicleIsSaved() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+        when(delegate.getVehicleById(vehicle.getId())).thenReturn(Optional.of(vehicle));
+        when(delegate.saveVehicle(vehicle)).thenReturn(vehicle);
+
+        adapter.getVehicleByVin(VIN);
+        adapter.getVehicleById(vehicle.getId());
+        adapter.saveVehicle(vehicle);
+        adapter.getVehicleByVin(VIN);
+        adapter.getVehicleById(vehicle.getId());
+
+        verify(delegate, times(2)).getVehicleByVin(VIN);
+        verify(delegate, times(2)).getVehicleById(vehicle.getId());
+    }
+
+    @Test
+    @DisplayName("Should invalidate VIN entry when vehicle is conditionally marked as sold")
+    void shouldInvalidateVinEntryWhenVehicleIsConditionallyMarkedAsSold() {
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+        when(delegate.markAsSoldIfAvailable(vehicle.getId())).thenReturn(true);
+
+        adapter.getVehicleByVin(VIN);
+        assertTrue(adapter.markAsSoldIfAvailable(vehicle.getId()));
+        adapter.getVehicleByVin(VIN);
+
+        verify(delegate, times(2)).getVehicleByVin(VIN);
+    }
+
+    @Test
+    @DisplayName("Should bump only the status list of a created vehicle")
+    void shouldBumpOnlyTheStatusListOfACreatedVehicle() {
+        Vehicle created = new Vehicle(null, "Honda", "Civic", 2023, VIN, "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000"));
+        when(delegate.saveVehicle(created)).thenReturn(vehicle);
+        String available = catalogVersions.getCatalogVersion(VehicleStatus.AVAILABLE);
+        String sold = catalogVersions.getCatalogVersion(VehicleStatus.SOLD);
+
+        adapter.saveVehicle(created);
+
+        assertNotEquals(available, catalogVersions.getCatalogVersion(VehicleStatus.AVAILABLE));
+        assertEquals(sold, catalogVersions.getCatalogVersion(VehicleStatus.SOLD));
+    }
+
+    @Test
+    @DisplayName("Should bump every status list when a vehicle is updated")
+    void shouldBumpEveryStatusListWhenAVehicleIsUpdated() {
+        when(delegate.saveVehicle(vehicle)).thenReturn(vehicle);
+        String sold = catalogVersions.getCatalogVersion(VehicleStatus.SOLD);
+
+        adapter.saveVehicle(vehicle);
+
+        assertNotEquals(sold, catalogVersions.getCatalogVersion(VehicleStatus.SOLD));
+    }
+
+    @Test
+    @DisplayName("Should bump available and sold lists only when vehicle is actually marked as sold")
+    void shouldBumpAvailableAndSoldListsOnlyWhenVehicleIsActuallyMarkedAsSold() {
+        when(delegate.markAsSoldIfAvailable(vehicle.getId())).thenReturn(false, true);
+        String available = catalogVersions.getCatalogVersion(VehicleStatus.AVAILABLE);
+        String sold = catalogVersions.getCatalogVersion(VehicleStatus.SOLD);
+
+        adapter.markAsSoldIfAvailable(vehicle.getId());
+        assertEquals(available, catalogVersions.getCatalogVersion(VehicleStatus.AVAILABLE));
+
+        adapter.markAsSoldIfAvailable(vehicle.getId());
+        assertNotEquals(available, catalogVersions.getCatalogVersion(VehicleStatus.AVAILABLE));
+        assertNotEquals(sold, catalogVersions.getCatalogVersion(VehicleStatus.SOLD));
+    }
+
+    @Test
+    @DisplayName("Should read versioned vehicles from the delegate on every call")
+    void shouldReadVersionedVehiclesFromTheDelegateOnEveryCall() {
+        when(delegate.getVersionedVehicleByVin(VIN)).thenReturn(Optional.of(new VehicleChange(7L, vehicle)));
+
+        adapter.getVersionedVehicleByVin(VIN);
+        adapter.getVersionedVehicleByVin(VIN);
+
+        verify(delegate, times(2)).getVersionedVehicleByVin(VIN);
+        verify(delegate, never()).getVehicleByVin(any());
+    }
+
+    @Test
+    @DisplayName("Should expose hit and miss metrics")
+    void shouldExposeHitAndMissMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        adapter.bindTo(registry);
+        when(delegate.getVehicleByVin(VIN)).thenReturn(Optional.of(vehicle));
+
+        adapter.getVehicleByVin(VIN);
+        adapter.getVehicleByVin(VIN);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", CachingVehicleRepositoryAdapter.BY_VIN_CACHE).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", CachingVehicleRepositoryAdapter.BY_VIN_CACHE).tag("result", "miss").functionCounter().count());
+    }
+}
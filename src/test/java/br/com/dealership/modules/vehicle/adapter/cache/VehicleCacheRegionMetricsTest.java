@@ -0,0 +1,52 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.vehicle.adapter.database.models.VehicleEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleCacheRegionMetricsTest {
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics naturalIdRegion;
+
+    @Test
+    @DisplayName("Should publish hits, misses and hit ratio per region")
+    void shouldPublishHitsMissesAndHitRatioPerRegion() {
+        when(statistics.getCacheRegionStatistics(VehicleEntity.NATURAL_ID_CACHE_REGION)).thenReturn(naturalIdRegion);
+        when(naturalIdRegion.getHitCount()).thenReturn(3L);
+        when(naturalIdRegion.getMissCount()).thenReturn(1L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new VehicleCacheRegionMetrics(statistics).bindTo(registry);
+
+        String region = VehicleEntity.NATURAL_ID_CACHE_REGION;
+        assertEquals(3, registry.get(VehicleCacheRegionMetrics.REQUESTS_METRIC).tags("region", region, "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get(VehicleCacheRegionMetrics.REQUESTS_METRIC).tags("region", region, "result", "miss").functionCounter().count());
+        assertEquals(0.75, registry.get(VehicleCacheRegionMetrics.HIT_RATIO_METRIC).tag("region", region).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should report zero for regions without statistics")
+    void shouldReportZeroForRegionsWithoutStatistics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new VehicleCacheRegionMetrics(statistics).bindTo(registry);
+
+        String region = VehicleEntity.CACHE_REGION;
+        assertEquals(0, registry.get(VehicleCacheRegionMetrics.REQUESTS_METRIC).tags("region", region, "result", "hit").functionCounter().count());
+        assertEquals(0, registry.get(VehicleCacheRegionMetrics.HIT_RATIO_METRIC).tag("region", region).gauge().value());
+    }
+}
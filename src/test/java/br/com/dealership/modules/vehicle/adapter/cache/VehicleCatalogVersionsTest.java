@@ -0,0 +1,86 @@
+package br.com.dealership.modules.vehicle.adapter.cache;
+
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleCatalogVersionsTest {
+
+    @Mock
+    private Clock clock;
+
+    private VehicleCatalogVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        versions = new VehicleCatalogVersions(Duration.ofSeconds(30), clock);
+        lenient().when(clock.millis()).thenReturn(1_000L);
+    }
+
+    @Test
+    @DisplayName("Should keep version stable while nothing is written")
+    void shouldKeepVersionStableWhileNothingIsWritten() {
+        assertEquals(versions.getCatalogVersion(VehicleStatus.AVAILABLE), versions.getCatalogVersion(VehicleStatus.AVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should change only the version of the bumped status")
+    void shouldChangeOnlyTheVersionOfTheBumpedStatus() {
+        String available = versions.getCatalogVersion(VehicleStatus.AVAILABLE);
+        String sold = versions.getCatalogVersion(VehicleStatus.SOLD);
+
+        versions.bump(VehicleStatus.AVAILABLE);
+
+        assertNotEquals(available, versions.getCatalogVersion(VehicleStatus.AVAILABLE));
+        assertEquals(sold, versions.getCatalogVersion(VehicleStatus.SOLD));
+    }
+
+    @Test
+    @DisplayName("Should change every version when all are bumped")
+    void shouldChangeEveryVersionWhenAllAreBumped() {
+        String available = versions.getCatalogVersion(VehicleStatus.AVAILABLE);
+        String sold = versions.getCatalogVersion(VehicleStatus.SOLD);
+
+        versions.bumpAll();
+
+        assertNotEquals(available, versions.getCatalogVersion(VehicleStatus.AVAILABLE));
+        assertNotEquals(sold, versions.getCatalogVersion(VehicleStatus.SOLD));
+    }
+
+    @Test
+    @DisplayName("Should roll version over once max age elapses")
+    void shouldRollVersionOverOnceMaxAgeElapses() {
+        String before = versions.getCatalogVersion(VehicleStatus.AVAILABLE);
+
+        when(clock.millis()).thenReturn(29_999L);
+        assertEquals(before, versions.getCatalogVersion(VehicleStatus.AVAILABLE));
+
+        when(clock.millis()).thenReturn(30_000L);
+        assertNotEquals(before, versions.getCatalogVersion(VehicleStatus.AVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should not reuse versions of another instance")
+    void shouldNotReuseVersionsOfAnotherInstance() {
+        VehicleCatalogVersions restarted = new VehicleCatalogVersions(Duration.ofSeconds(30), clock);
+
+        assertNotEquals(versions.getCatalogVersion(VehicleStatus.AVAILABLE), restarted.getCatalogVersion(VehicleStatus.AVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive max age")
+    void shouldRejectNonPositiveMaxAge() {
+        assertThrows(IllegalArgumentException.class, () -> new VehicleCatalogVersions(Duration.ZERO, clock));
+    }
+}
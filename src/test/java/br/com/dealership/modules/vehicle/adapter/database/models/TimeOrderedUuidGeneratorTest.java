@@ -0,0 +1,75 @@
+package br.com.dealership.modules.vehicle.adapter.database.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private static final long NOW = Instant.parse("2024-01-15T10:00:00Z").toEpochMilli();
+
+    private static void assertAscending(UUID previous, UUID next) {
+        int comparison = Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits());
+        assertTrue(comparison < 0, () -> previous + " should sort before " + next);
+    }
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the IETF variant and the current timestamp")
+    void shouldGenerateVersion7UuidsWithTheIetfVariantAndTheCurrentTimestamp() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+        UUID id = generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Should keep ids ascending when many are generated in the same millisecond")
+    void shouldKeepIdsAscendingWhenManyAreGeneratedInTheSameMillisecond() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+        UUID previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next();
+            assertAscending(previous, next);
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep ids ascending when the clock moves forward or steps back")
+    void shouldKeepIdsAscendingWhenTheClockMovesForwardOrStepsBack() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW, NOW + 1, NOW - 1000, NOW + 2);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock);
+
+        UUID first = generator.next();
+        UUID second = generator.next();
+        UUID afterStepBack = generator.next();
+        UUID last = generator.next();
+
+        assertAscending(first, second);
+        assertAscending(second, afterStepBack);
+        assertAscending(afterStepBack, last);
+        assertEquals(NOW + 1, afterStepBack.getMostSignificantBits() >>> 16);
+        assertEquals(NOW + 2, last.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Should generate distinct ids")
+    void shouldGenerateDistinctIds() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+        assertNotEquals(generator.next(), generator.next());
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.dealership.modules.vehicle.adapter.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomVinFilterTest {
+
+    private static String vin(int i) {
+        return String.format("1HGBH41JX%08d", i);
+    }
+
+    @Test
+    @DisplayName("Should report every VIN as possibly known until loaded")
+    void shouldReportEveryVinAsPossiblyKnownUntilLoaded() {
+        BloomVinFilter filter = new BloomVinFilter(1_000, 0.01);
+
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain(vin(1)));
+
+        filter.load(Stream.empty());
+
+        assertTrue(filter.isLoaded());
+        assertFalse(filter.mightContain(vin(1)));
+    }
+
+    @Test
+    @DisplayName("Should never report a loaded or added VIN as absent")
+    void shouldNeverReportALoadedOrAddedVinAsAbsent() {
+        BloomVinFilter filter = new BloomVinFilter(100_000, 0.01);
+        filter.load(IntStream.range(0, 100_000).mapToObj(BloomVinFilterTest::vin));
+        filter.add("NEWVIN");
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(filter.mightContain(vin(i)), vin(i));
+        }
+        assertTrue(filter.mightContain("NEWVIN"));
+    }
+
+    @Test
+    @DisplayName("Should keep false positive rate close to the configured rate")
+    void shouldKeepFalsePositiveRateCloseToTheConfiguredRate() {
+        BloomVinFilter filter = new BloomVinFilter(100_000, 0.01);
+        filter.load(IntStream.range(0, 100_000).mapToObj(BloomVinFilterTest::vin));
+
+        long falsePositives = IntStream.range(100_000, 300_000).mapToObj(BloomVinFilterTest::vin)
+                .filter(filter::mightContain)
+                .count();
+
+        assertTrue(falsePositives / 200_000.0 < 0.02, "False positive rate was " + falsePositives / 200_000.0);
+    }
+
+    @Test
+    @DisplayName("Should count lookups by result")
+    void shouldCountLookupsByResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BloomVinFilter filter = new BloomVinFilter(1_000, 0.01);
+        filter.bindTo(registry);
+        filter.load(Stream.of(vin(1)));
+
+        filter.mightContain(vin(1));
+        filter.mightContain(vin(2));
+
+        assertEquals(1.0, registry.counter(BloomVinFilter.LOOKUPS_METRIC, "result", "maybe-present").count());
+        assertEquals(1.0, registry.counter(BloomVinFilter.LOOKUPS_METRIC, "result", "absent").count());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing")
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomVinFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomVinFilter(1_000, 1.0));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.dealership.modules.vehicle.adapter.http;
+
+import br.com.dealership.modules.vehicle.domain.entities.VehicleImportLine;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleImportReaderTest {
+
+    private static List<VehicleImportLine> readAll(Iterator<VehicleImportLine> reader) {
+        List<VehicleImportLine> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+
+    @Test
+    @DisplayName("Should read one vehicle per NDJSON line skipping blank lines")
+    void shouldReadOneVehiclePerNdjsonLineSkippingBlankLines() {
+        String body = """
+                {"make":"Honda","model":"Civic","year":2023,"vin":"VIN1","color":"Black","status":"AVAILABLE","price":25000.00}
+
+                {"make":"Toyota","model":"Corolla","year":2022,"vin":"VIN2","status":"SOLD","price":30000}
+                """;
+
+        List<VehicleImportLine> lines = readAll(VehicleImportReader.ndjson(new StringReader(body), new ObjectMapper().reader()));
+
+        assertEquals(2, lines.size());
+        assertEquals(1, lines.get(0).line());
+        assertEquals("VIN1", lines.get(0).vehicle().getVin());
+        assertEquals(new BigDecimal("25000.00"), lines.get(0).vehicle().getPrice());
+        assertEquals(3, lines.get(1).line());
+        assertEquals(VehicleStatus.SOLD, lines.get(1).vehicle().getStatus());
+        assertNull(lines.get(1).vehicle().getColor());
+    }
+
+    @Test
+    @DisplayName("Should report malformed NDJSON line and keep reading")
+    void shouldReportMalformedNdjsonLineAndKeepReading() {
+        String body = """
+                {"make":"Honda",
+                {"make":"Honda","model":"Civic","vin":"VIN1","status":"AVAILABLE","price":1}
+                null
+                """;
+
+        List<VehicleImportLine> lines = readAll(VehicleImportReader.ndjson(new StringReader(body), new ObjectMapper().reader()));
+
+        assertEquals(3, lines.size());
+        assertNull(lines.get(0).vehicle());
+        assertTrue(lines.get(0).error().startsWith("Malformed JSON"));
+        assertEquals(0, lines.get(1).vehicle().getYear());
+        assertEquals("Expected a JSON object", lines.get(2).error());
+    }
+
+    @Test
+    @DisplayName("Should map CSV columns by header name")
+    void shouldMapCsvColumnsByHeaderName() {
+        String body = """
+                VIN,Make,Model,Year,Status,Price,Color
+                VIN1,Honda,"Civic, Touring",2023,available,25000.00,"Black ""Pearl""\"
+                VIN2,Toyota,Corolla,2022,SOLD,30000,
+                """;
+
+        List<VehicleImportLine> lines = readAll(VehicleImportReader.csv(new StringReader(body)));
+
+        assertEquals(2, lines.size());
+        assertEquals(2, lines.get(0).line());
+        assertEquals("Civic, Touring", lines.get(0).vehicle().getModel());
+        assertEquals("Black \"Pearl\"", lines.get(0).vehicle().getColor());
+        assertEquals(VehicleStatus.AVAILABLE, lines.get(0).vehicle().getStatus());
+        assertEquals(2023, lines.get(0).vehicle().getYear());
+        assertNull(lines.get(1).vehicle().getColor());
+    }
+
+    @Test
+    @DisplayName("Should report unparseable CSV values per row")
+    void shouldReportUnparseableCsvValuesPerRow() {
+        String body = """
+                make,model,year,vin,status,price
+                Honda,Civic,twenty,VIN1,AVAILABLE,25000
+                Honda,Civic,2023,VIN2,AVAILABLE
+                Honda,Civic,2023,VIN3,PARKED,25000
+                """;
+
+        List<VehicleImportLine> lines = readAll(VehicleImportReader.csv(new StringReader(body)));
+
+        assertEquals("Invalid year: twenty", lines.get(0).error());
+        assertEquals("Expected 6 columns but found 5", lines.get(1).error());
+        assertEquals("Invalid status: PARKED", lines.get(2).error());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void shouldRejectCsvWithoutRequiredHeaderColumns() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> VehicleImportReader.csv(new StringReader("make,model,vin\n")));
+
+        assertEquals("CSV header is missing columns: year, status, price", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> VehicleImportReader.csv(new StringReader("")));
+    }
+}
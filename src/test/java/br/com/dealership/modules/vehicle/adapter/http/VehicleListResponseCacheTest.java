@@ -0,0 +1,106 @@
+package br.com.dealership.modules.vehicle.adapter.http;
+
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleListResponseCacheTest {
+
+    private VehicleListResponseCache cache;
+    private AtomicInteger loads;
+    private CursorPage<Vehicle> page;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VehicleListResponseCache(new ObjectMapper(), 1024 * 1024, Duration.ofSeconds(30));
+        loads = new AtomicInteger();
+        List<Vehicle> vehicles = IntStream.range(0, 20)
+                .mapToObj(i -> new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, "VIN" + i, "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000")))
+                .toList();
+        page = new CursorPage<>(vehicles, "next");
+    }
+
+    private CursorPage<Vehicle> load() {
+        loads.incrementAndGet();
+        return page;
+    }
+
+    @Test
+    @DisplayName("Should serialize each page once per catalog version")
+    void shouldSerializeEachPageOncePerCatalogVersion() {
+        VehicleListResponseCache.Page first = cache.get(VehicleStatus.AVAILABLE, "v1", null, 50, this::load);
+        VehicleListResponseCache.Page second = cache.get(VehicleStatus.AVAILABLE, "v1", null, 50, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("next", first.nextCursor());
+
+        cache.get(VehicleStatus.AVAILABLE, "v2", null, 50, this::load);
+        cache.get(VehicleStatus.AVAILABLE, "v2", "next", 50, this::load);
+        cache.get(VehicleStatus.SOLD, "v2", null, 50, this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep a gzip variant that decompresses to the JSON body")
+    void shouldKeepAGzipVariantThatDecompressesToTheJsonBody() throws IOException {
+        VehicleListResponseCache.Page cached = cache.get(VehicleStatus.AVAILABLE, "v1", null, 50, this::load);
+
+        assertNotNull(cached.gzip());
+        assertTrue(cached.gzip().length < cached.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzip()))) {
+            assertArrayEquals(cached.json(), in.readAllBytes());
+        }
+        assertEquals(20, new ObjectMapper().readTree(cached.json()).size());
+    }
+
+    @Test
+    @DisplayName("Should skip gzip variant when it is not smaller")
+    void shouldSkipGzipVariantWhenItIsNotSmaller() {
+        VehicleListResponseCache.Page empty = cache.get(VehicleStatus.SOLD, "v1", null, 50, () -> new CursorPage<>(List.of(), null));
+
+        assertArrayEquals("[]".getBytes(), empty.json());
+        assertNull(empty.gzip());
+        assertNull(empty.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void shouldNotCacheFailedLoads() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get(VehicleStatus.AVAILABLE, "v1", "bad", 50, () -> {
+            throw new IllegalArgumentException("Invalid cursor");
+        }));
+
+        cache.get(VehicleStatus.AVAILABLE, "v1", "bad", 50, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should accept gzip only when the client lists it without q=0")
+    void shouldAcceptGzipOnlyWhenTheClientListsItWithoutQZero() {
+        assertTrue(VehicleListResponseCache.acceptsGzip("gzip"));
+        assertTrue(VehicleListResponseCache.acceptsGzip("deflate, GZIP;q=0.8, br"));
+        assertTrue(VehicleListResponseCache.acceptsGzip("*"));
+        assertFalse(VehicleListResponseCache.acceptsGzip(null));
+        assertFalse(VehicleListResponseCache.acceptsGzip("br, deflate"));
+        assertFalse(VehicleListResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(VehicleListResponseCache.acceptsGzip("identity"));
+    }
+}
@@ -2,6 +2,7 @@ package br.com.dealership.modules.vehicle.application.useCases;
 
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
 import br.com.dealership.modules.vehicle.domain.exception.DuplicateVinException;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +25,9 @@ class CreateVehicleUseCaseTest {
     @Mock
     private VehicleRepositoryPort vehicleRepositoryPort;
 
+    @Mock
+    private KnownVinsPort knownVinsPort;
+
     @InjectMocks
     private CreateVehicleUseCase useCase;
 
@@ -33,6 +37,7 @@ class CreateVehicleUseCaseTest {
     void setUp() {
         vehicle = mock(Vehicle.class);
         lenient().when(vehicle.getVin()).thenReturn("1HGBH41JXMN109186");
+        lenient().when(knownVinsPort.mightContain("1HGBH41JXMN109186")).thenReturn(true);
     }
 
     @Test
@@ -95,4 +100,27 @@ class CreateVehicleUseCaseTest {
         verify(vehicleRepositoryPort, never()).getVehicleByVin(any());
         verify(vehicleRepositoryPort, never()).saveVehicle(any());
     }
+
+    @Test
+    @DisplayName("Should skip VIN lookup when filter knows the VIN is new")
+    void shouldSkipVinLookupWhenFilterKnowsTheVinIsNew() {
+        when(knownVinsPort.mightContain("1HGBH41JXMN109186")).thenReturn(false);
+        when(vehicleRepositoryPort.saveVehicle(vehicle)).thenReturn(vehicle);
+
+        Vehicle result = useCase.execute(vehicle);
+
+        assertEquals(vehicle, result);
+        verify(vehicleRepositoryPort, never()).getVehicleByVin(any());
+        verify(knownVinsPort).add("1HGBH41JXMN109186");
+    }
+
+    @Test
+    @DisplayName("Should propagate DuplicateVinException when the repository rejects a VIN unknown to the filter")
+    void shouldPropagateDuplicateVinExceptionWhenTheRepositoryRejectsAVinUnknownToTheFilter() {
+        when(knownVinsPort.mightContain("1HGBH41JXMN109186")).thenReturn(false);
+        when(vehicleRepositoryPort.saveVehicle(vehicle)).thenThrow(new DuplicateVinException("1HGBH41JXMN109186"));
+
+        assertThrows(DuplicateVinException.class, () -> useCase.execute(vehicle));
+        verify(knownVinsPort, never()).add(any());
+    }
 }
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,10 +49,14 @@ class FindAvailableVehicleByIdUseCaseTest {
         );
     }
 
+    private static FindVehicleDTO summaryOf(Vehicle vehicle) {
+        return new FindVehicleDTO(vehicle.getId(), vehicle.getVin(), vehicle.getStatus(), vehicle.getPrice());
+    }
+
     @Test
     @DisplayName("Should find vehicle by VIN and return DTO successfully")
     void shouldFindVehicleByVinAndReturnDtoSuccessfully() {
-        when(repository.getVehicleByVin(vin)).thenReturn(Optional.of(vehicle));
+        when(repository.getVehicleSummaryByVin(vin)).thenReturn(Optional.of(summaryOf(vehicle)));
 
         Optional<FindVehicleDTO> result = useCase.execute(vin);
 
@@ -59,18 +64,19 @@ class FindAvailableVehicleByIdUseCaseTest {
         assertEquals(vehicleId, result.get().vehicleId());
         assertEquals(vin, result.get().vin());
         assertEquals(VehicleStatus.AVAILABLE, result.get().status());
-        verify(repository).getVehicleByVin(vin);
+        verify(repository).getVehicleSummaryByVin(vin);
+        verify(repository, never()).getVehicleByVin(any());
     }
 
     @Test
     @DisplayName("Should return empty optional when vehicle is not found")
     void shouldReturnEmptyOptionalWhenVehicleIsNotFound() {
-        when(repository.getVehicleByVin("NONEXISTENT")).thenReturn(Optional.empty());
+        when(repository.getVehicleSummaryByVin("NONEXISTENT")).thenReturn(Optional.empty());
 
         Optional<FindVehicleDTO> result = useCase.execute("NONEXISTENT");
 
         assertTrue(result.isEmpty());
-        verify(repository).getVehicleByVin("NONEXISTENT");
+        verify(repository).getVehicleSummaryByVin("NONEXISTENT");
     }
 
     @Test
@@ -86,7 +92,7 @@ class FindAvailableVehicleByIdUseCaseTest {
                 VehicleStatus.SOLD,
                 new BigDecimal("30000.00")
         );
-        when(repository.getVehicleByVin(vin)).thenReturn(Optional.of(soldVehicle));
+        when(repository.getVehicleSummaryByVin(vin)).thenReturn(Optional.of(summaryOf(soldVehicle)));
 
         Optional<FindVehicleDTO> result = useCase.execute(vin);
 
@@ -1,7 +1,10 @@
 package br.com.dealership.modules.vehicle.application.useCases;
 
+import br.com.dealership.modules.shared.dtos.CursorPage;
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleCursor;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleCatalogVersionPort;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,9 @@ class GetVehicleByStatusUseCaseTest {
     @Mock
     private VehicleRepositoryPort vehicleRepositoryPort;
 
+    @Mock
+    private VehicleCatalogVersionPort catalogVersionPort;
+
     @InjectMocks
     private GetVehicleByStatusUseCase useCase;
 
@@ -83,4 +89,71 @@ class GetVehicleByStatusUseCaseTest {
         assertEquals("Status cannot be null", exception.getMessage());
         verify(vehicleRepositoryPort, never()).getAllByStatus(any());
     }
+
+    @Test
+    @DisplayName("Should get first page of vehicles when cursor is absent")
+    void shouldGetFirstPageOfVehiclesWhenCursorIsAbsent() {
+        Vehicle vehicle = new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, "VIN1", "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000"));
+        CursorPage<Vehicle> expectedPage = new CursorPage<>(List.of(vehicle), VehicleCursor.of(vehicle).encode());
+
+        when(vehicleRepositoryPort.getPageByStatus(VehicleStatus.AVAILABLE, null, 1)).thenReturn(expectedPage);
+
+        CursorPage<Vehicle> result = useCase.execute(VehicleStatus.AVAILABLE, null, 1);
+
+        assertEquals(expectedPage, result);
+        assertTrue(result.hasNext());
+        verify(vehicleRepositoryPort).getPageByStatus(VehicleStatus.AVAILABLE, null, 1);
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and get next page of vehicles")
+    void shouldDecodeCursorAndGetNextPageOfVehicles() {
+        VehicleCursor cursor = new VehicleCursor(new BigDecimal("25000"), UUID.randomUUID());
+        CursorPage<Vehicle> expectedPage = new CursorPage<>(Collections.emptyList(), null);
+
+        when(vehicleRepositoryPort.getPageByStatus(VehicleStatus.SOLD, cursor, 10)).thenReturn(expectedPage);
+
+        CursorPage<Vehicle> result = useCase.execute(VehicleStatus.SOLD, cursor.encode(), 10);
+
+        assertTrue(result.items().isEmpty());
+        assertFalse(result.hasNext());
+        verify(vehicleRepositoryPort).getPageByStatus(VehicleStatus.SOLD, cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when page limit is out of range")
+    void shouldThrowIllegalArgumentExceptionWhenPageLimitIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(VehicleStatus.AVAILABLE, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(VehicleStatus.AVAILABLE, null, GetVehicleByStatusUseCase.MAX_PAGE_SIZE + 1));
+
+        verify(vehicleRepositoryPort, never()).getPageByStatus(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            useCase.execute(VehicleStatus.AVAILABLE, "not-a-cursor", 10);
+        });
+
+        assertTrue(exception.getMessage().contains("Invalid cursor"));
+        verify(vehicleRepositoryPort, never()).getPageByStatus(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return catalog version of status without querying vehicles")
+    void shouldReturnCatalogVersionOfStatusWithoutQueryingVehicles() {
+        when(catalogVersionPort.getCatalogVersion(VehicleStatus.SOLD)).thenReturn("sold-1");
+
+        assertEquals("sold-1", useCase.catalogVersion(VehicleStatus.SOLD));
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when catalog version status is null")
+    void shouldThrowIllegalArgumentExceptionWhenCatalogVersionStatusIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.catalogVersion(null));
+
+        verifyNoInteractions(catalogVersionPort);
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.dealership.modules.vehicle.application.useCases;
 
 import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
 import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,4 +102,34 @@ class GetVehicleByVinUseCaseTest {
         assertEquals("VIN cannot be null or empty", exception.getMessage());
         verify(vehicleRepositoryPort, never()).getVehicleByVin(any());
     }
+
+    @Test
+    @DisplayName("Should get versioned vehicle by VIN")
+    void shouldGetVersionedVehicleByVin() {
+        when(vehicleRepositoryPort.getVersionedVehicleByVin(vin)).thenReturn(Optional.of(new VehicleChange(12L, vehicle)));
+
+        VehicleChange result = useCase.executeVersioned(vin).orElseThrow();
+
+        assertEquals(12L, result.version());
+        assertEquals(vehicle, result.vehicle());
+    }
+
+    @Test
+    @DisplayName("Should find vehicle version by VIN without loading the vehicle")
+    void shouldFindVehicleVersionByVinWithoutLoadingTheVehicle() {
+        when(vehicleRepositoryPort.getVehicleVersionByVin(vin)).thenReturn(Optional.of(12L));
+
+        assertEquals(Optional.of(12L), useCase.findVersion(vin));
+        verify(vehicleRepositoryPort, never()).getVehicleByVin(any());
+        verify(vehicleRepositoryPort, never()).getVersionedVehicleByVin(any());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when versioned lookup VIN is blank")
+    void shouldThrowIllegalArgumentExceptionWhenVersionedLookupVinIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.findVersion(" "));
+        assertThrows(IllegalArgumentException.class, () -> useCase.executeVersioned(null));
+
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
 }
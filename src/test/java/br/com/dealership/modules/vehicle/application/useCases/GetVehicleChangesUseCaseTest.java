@@ -0,0 +1,75 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChange;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleChangeFeed;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetVehicleChangesUseCaseTest {
+
+    @Mock
+    private VehicleRepositoryPort vehicleRepositoryPort;
+
+    @InjectMocks
+    private GetVehicleChangesUseCase useCase;
+
+    @Test
+    @DisplayName("Should get changes after the given version")
+    void shouldGetChangesAfterTheGivenVersion() {
+        Vehicle vehicle = new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, "VIN1", "Black", VehicleStatus.SOLD, new BigDecimal("25000"));
+        VehicleChange change = new VehicleChange(43L, vehicle);
+        VehicleChangeFeed expectedPage = new VehicleChangeFeed(List.of(change), VehicleChangeCursor.of(change).encode(), 45L);
+
+        when(vehicleRepositoryPort.getChangesSince(42L, null, 1)).thenReturn(expectedPage);
+
+        VehicleChangeFeed result = useCase.execute(42L, null, 1);
+
+        assertEquals(expectedPage, result);
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and get next page of changes")
+    void shouldDecodeCursorAndGetNextPageOfChanges() {
+        VehicleChangeCursor cursor = new VehicleChangeCursor(50L, UUID.randomUUID());
+
+        when(vehicleRepositoryPort.getChangesSince(42L, cursor, 10)).thenReturn(new VehicleChangeFeed(List.of(), null, 60L));
+
+        VehicleChangeFeed result = useCase.execute(42L, cursor.encode(), 10);
+
+        assertTrue(result.items().isEmpty());
+        assertFalse(result.hasNext());
+        assertEquals(60L, result.syncVersion());
+        verify(vehicleRepositoryPort).getChangesSince(42L, cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when since, limit or cursor is invalid")
+    void shouldThrowIllegalArgumentExceptionWhenSinceLimitOrCursorIsInvalid() {
+        String olderCursor = new VehicleChangeCursor(10L, UUID.randomUUID()).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(-1L, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(0L, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(0L, null, GetVehicleByStatusUseCase.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(0L, "not-a-cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(42L, olderCursor, 10));
+
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.vehicle.domain.entities.*;
+import br.com.dealership.modules.vehicle.domain.ports.out.KnownVinsPort;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportVehiclesUseCaseTest {
+
+    @Mock
+    private VehicleRepositoryPort vehicleRepositoryPort;
+
+    @Mock
+    private KnownVinsPort knownVinsPort;
+
+    private ImportVehiclesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportVehiclesUseCase(vehicleRepositoryPort, knownVinsPort, TransactionOperations.withoutTransaction(), 2);
+        lenient().when(knownVinsPort.mightContain(any())).thenReturn(true);
+    }
+
+    private static VehicleImportLine line(int line, String vin) {
+        return VehicleImportLine.parsed(line, new Vehicle(null, "Honda", "Civic", 2023, vin, "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000")));
+    }
+
+    private void saveWithGeneratedIds() {
+        when(vehicleRepositoryPort.saveVehicles(any())).thenAnswer(invocation -> {
+            List<Vehicle> vehicles = invocation.getArgument(0);
+            vehicles.forEach(vehicle -> vehicle.setId(UUID.randomUUID()));
+            return vehicles;
+        });
+    }
+
+    @Test
+    @DisplayName("Should check VINs and save once per chunk")
+    void shouldCheckVinsAndSaveOncePerChunk() {
+        when(vehicleRepositoryPort.findExistingVins(anyCollection())).thenReturn(Set.of());
+        saveWithGeneratedIds();
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN2"), line(3, "VIN3")).iterator());
+
+        assertEquals(3, report.total());
+        assertEquals(3, report.created());
+        assertEquals(0, report.rejected());
+        assertEquals(List.of(1, 2, 3), report.rows().stream().map(VehicleImportResult::line).toList());
+        assertTrue(report.rows().stream().allMatch(row -> row.id() != null));
+        verify(vehicleRepositoryPort).findExistingVins(List.of("VIN1", "VIN2"));
+        verify(vehicleRepositoryPort).findExistingVins(List.of("VIN3"));
+        verify(vehicleRepositoryPort, times(2)).saveVehicles(any());
+        verify(vehicleRepositoryPort, never()).getVehicleByVin(any());
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows and existing VINs without saving them")
+    void shouldReportInvalidRowsAndExistingVinsWithoutSavingThem() {
+        useCase = new ImportVehiclesUseCase(vehicleRepositoryPort, knownVinsPort, TransactionOperations.withoutTransaction(), 10);
+        VehicleImportLine negativePrice = VehicleImportLine.parsed(3,
+                new Vehicle(null, "Honda", "Civic", 2023, "VIN3", "Black", VehicleStatus.AVAILABLE, new BigDecimal("-1")));
+        when(vehicleRepositoryPort.findExistingVins(List.of("VIN1", "VIN4"))).thenReturn(Set.of("VIN1"));
+        saveWithGeneratedIds();
+
+        VehicleImportReport report = useCase.execute(List.of(
+                line(1, "VIN1"),
+                VehicleImportLine.unreadable(2, "Malformed JSON"),
+                negativePrice,
+                line(4, "VIN4")
+        ).iterator());
+
+        assertEquals(4, report.total());
+        assertEquals(1, report.created());
+        assertEquals(3, report.rejected());
+        assertEquals(VehicleImportStatus.DUPLICATE, report.rows().get(0).status());
+        assertEquals(VehicleImportStatus.INVALID, report.rows().get(1).status());
+        assertEquals("Malformed JSON", report.rows().get(1).message());
+        assertEquals(VehicleImportStatus.INVALID, report.rows().get(2).status());
+        assertEquals("Vehicle price cannot be null or negative", report.rows().get(2).message());
+        assertEquals(VehicleImportStatus.CREATED, report.rows().get(3).status());
+        verify(vehicleRepositoryPort).saveVehicles(argThat(vehicles -> vehicles.size() == 1 && vehicles.get(0).getVin().equals("VIN4")));
+    }
+
+    @Test
+    @DisplayName("Should reject VIN repeated within the file")
+    void shouldRejectVinRepeatedWithinTheFile() {
+        when(vehicleRepositoryPort.findExistingVins(List.of("VIN1"))).thenReturn(Set.of());
+        saveWithGeneratedIds();
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN1")).iterator());
+
+        assertEquals(VehicleImportStatus.CREATED, report.rows().get(0).status());
+        assertEquals(VehicleImportStatus.DUPLICATE, report.rows().get(1).status());
+        assertEquals("VIN already imported at line 1", report.rows().get(1).message());
+    }
+
+    @Test
+    @DisplayName("Should retry chunk once when a concurrent insert violates the VIN constraint")
+    void shouldRetryChunkOnceWhenAConcurrentInsertViolatesTheVinConstraint() {
+        when(vehicleRepositoryPort.findExistingVins(List.of("VIN1", "VIN2")))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("VIN2"));
+        when(vehicleRepositoryPort.saveVehicles(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_vehicles_vin"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN2")).iterator());
+
+        assertEquals(VehicleImportStatus.CREATED, report.rows().get(0).status());
+        assertEquals(VehicleImportStatus.DUPLICATE, report.rows().get(1).status());
+    }
+
+    @Test
+    @DisplayName("Should mark chunk as failed when retry also violates a constraint")
+    void shouldMarkChunkAsFailedWhenRetryAlsoViolatesAConstraint() {
+        when(vehicleRepositoryPort.findExistingVins(anyCollection())).thenReturn(Set.of());
+        when(vehicleRepositoryPort.saveVehicles(any())).thenThrow(new DataIntegrityViolationException("uk_vehicles_vin"));
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN2")).iterator());
+
+        assertEquals(0, report.created());
+        assertTrue(report.rows().stream().allMatch(row -> row.status() == VehicleImportStatus.FAILED));
+        verify(vehicleRepositoryPort, times(2)).saveVehicles(any());
+    }
+
+    @Test
+    @DisplayName("Should return empty report for empty input")
+    void shouldReturnEmptyReportForEmptyInput() {
+        VehicleImportReport report = useCase.execute(Collections.emptyIterator());
+
+        assertEquals(0, report.total());
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should only query VINs the filter might know and record saved VINs")
+    void shouldOnlyQueryVinsTheFilterMightKnowAndRecordSavedVins() {
+        when(knownVinsPort.mightContain("VIN1")).thenReturn(false);
+        when(knownVinsPort.mightContain("VIN2")).thenReturn(true);
+        when(vehicleRepositoryPort.findExistingVins(List.of("VIN2"))).thenReturn(Set.of());
+        saveWithGeneratedIds();
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN2")).iterator());
+
+        assertEquals(2, report.created());
+        verify(knownVinsPort).add("VIN1");
+        verify(knownVinsPort).add("VIN2");
+    }
+
+    @Test
+    @DisplayName("Should skip the VIN query when the filter knows every VIN is new")
+    void shouldSkipTheVinQueryWhenTheFilterKnowsEveryVinIsNew() {
+        when(knownVinsPort.mightContain(any())).thenReturn(false);
+        saveWithGeneratedIds();
+
+        VehicleImportReport report = useCase.execute(List.of(line(1, "VIN1"), line(2, "VIN2")).iterator());
+
+        assertEquals(2, report.created());
+        verify(vehicleRepositoryPort, never()).findExistingVins(any());
+    }
+}
@@ -1,7 +1,5 @@
 package br.com.dealership.modules.vehicle.application.useCases;
 
-import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
-import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
 import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +9,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,71 +24,50 @@ class MarkVehicleAsSoldUseCaseTest {
     @InjectMocks
     private MarkVehicleAsSoldUseCase useCase;
 
-    private Vehicle vehicle;
     private UUID vehicleId;
 
     @BeforeEach
     void setUp() {
         vehicleId = UUID.randomUUID();
-        vehicle = new Vehicle(
-                vehicleId,
-                "Honda",
-                "Civic",
-                2023,
-                "1HGBH41JXMN109186",
-                "Black",
-                VehicleStatus.AVAILABLE,
-                new BigDecimal("25000.00")
-        );
     }
 
     @Test
-    @DisplayName("Should mark vehicle as sold successfully when vehicle exists")
-    void shouldMarkVehicleAsSoldSuccessfullyWhenVehicleExists() {
-        Vehicle mockVehicle = mock(Vehicle.class);
-        when(repository.getVehicleById(vehicleId)).thenReturn(Optional.of(mockVehicle));
-        when(repository.saveVehicle(any(Vehicle.class))).thenReturn(mockVehicle);
+    @DisplayName("Should return true when conditional update marks vehicle as sold")
+    void shouldReturnTrueWhenConditionalUpdateMarksVehicleAsSold() {
+        when(repository.markAsSoldIfAvailable(vehicleId)).thenReturn(true);
 
-        useCase.execute(vehicleId);
+        assertTrue(useCase.execute(vehicleId));
 
-        verify(repository).getVehicleById(vehicleId);
-        verify(mockVehicle).markAsSold();
-        verify(repository).saveVehicle(mockVehicle);
+        verify(repository).markAsSoldIfAvailable(vehicleId);
     }
 
     @Test
-    @DisplayName("Should not save when vehicle does not exist")
-    void shouldNotSaveWhenVehicleDoesNotExist() {
-        when(repository.getVehicleById(vehicleId)).thenReturn(Optional.empty());
+    @DisplayName("Should return false when vehicle is missing or already sold")
+    void shouldReturnFalseWhenVehicleIsMissingOrAlreadySold() {
+        when(repository.markAsSoldIfAvailable(vehicleId)).thenReturn(false);
 
-        useCase.execute(vehicleId);
+        assertFalse(useCase.execute(vehicleId));
 
-        verify(repository).getVehicleById(vehicleId);
-        verify(repository, never()).saveVehicle(any());
+        verify(repository).markAsSoldIfAvailable(vehicleId);
     }
 
     @Test
-    @DisplayName("Should call markAsSold method on vehicle")
-    void shouldCallMarkAsSoldMethodOnVehicle() {
-        Vehicle mockVehicle = mock(Vehicle.class);
-        when(repository.getVehicleById(vehicleId)).thenReturn(Optional.of(mockVehicle));
-        when(repository.saveVehicle(mockVehicle)).thenReturn(mockVehicle);
+    @DisplayName("Should not read or save the full vehicle")
+    void shouldNotReadOrSaveTheFullVehicle() {
+        when(repository.markAsSoldIfAvailable(vehicleId)).thenReturn(true);
 
         useCase.execute(vehicleId);
 
-        verify(mockVehicle).markAsSold();
-        verify(repository).saveVehicle(mockVehicle);
+        verify(repository, never()).getVehicleById(any());
+        verify(repository, never()).saveVehicle(any());
     }
 
     @Test
-    @DisplayName("Should complete successfully without error when vehicle not found")
-    void shouldCompleteSuccessfullyWithoutErrorWhenVehicleNotFound() {
-        UUID nonExistentId = UUID.randomUUID();
-        when(repository.getVehicleById(nonExistentId)).thenReturn(Optional.empty());
-
-        assertDoesNotThrow(() -> useCase.execute(nonExistentId));
+    @DisplayName("Should throw IllegalArgumentException when ID is null")
+    void shouldThrowIllegalArgumentExceptionWhenIdIsNull() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
 
-        verify(repository).getVehicleById(nonExistentId);
-        verify(repository, never()).saveVehicle(any());
+        assertEquals("Vehicle ID cannot be null", exception.getMessage());
+        verify(repository, never()).markAsSoldIfAvailable(any());
     }
 }
@@ -0,0 +1,115 @@
+package br.com.dealership.modules.vehicle.application.useCases;
+
+import br.com.dealership.modules.shared.dtos.CursorPage;
+import br.com.dealership.modules.vehicle.domain.entities.FacetCount;
+import br.com.dealership.modules.vehicle.domain.entities.Vehicle;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFacets;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleFilter;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchCursor;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSearchResult;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleSort;
+import br.com.dealership.modules.vehicle.domain.entities.VehicleStatus;
+import br.com.dealership.modules.vehicle.domain.exception.InvalidVehicleException;
+import br.com.dealership.modules.vehicle.domain.ports.out.VehicleRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchVehiclesUseCaseTest {
+
+    @Mock
+    private VehicleRepositoryPort vehicleRepositoryPort;
+
+    @InjectMocks
+    private SearchVehiclesUseCase useCase;
+
+    private final VehicleFilter filter = new VehicleFilter("Honda", null, 2020, 2024, null, null, null, VehicleStatus.AVAILABLE);
+
+    @Test
+    @DisplayName("Should search first page and compute facets for the same filter")
+    void shouldSearchFirstPageAndComputeFacetsForTheSameFilter() {
+        Vehicle vehicle = new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, "VIN1", "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000"));
+        String nextCursor = VehicleSearchCursor.of(VehicleSort.YEAR_DESC, vehicle).encode();
+        VehicleFacets facets = new VehicleFacets(List.of(new FacetCount("Honda", 3)), List.of(new FacetCount("Civic", 3)),
+                List.of(new FacetCount("2023", 3)));
+
+        when(vehicleRepositoryPort.search(filter, VehicleSort.YEAR_DESC, null, 1)).thenReturn(new CursorPage<>(List.of(vehicle), nextCursor));
+        when(vehicleRepositoryPort.getFacets(filter, SearchVehiclesUseCase.MAX_FACET_BUCKETS)).thenReturn(facets);
+
+        VehicleSearchResult result = useCase.execute(filter, VehicleSort.YEAR_DESC, null, 1, true);
+
+        assertEquals(List.of(vehicle), result.items());
+        assertEquals(nextCursor, result.nextCursor());
+        assertEquals(facets, result.facets());
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and skip facets when not requested")
+    void shouldDecodeCursorAndSkipFacetsWhenNotRequested() {
+        VehicleSearchCursor cursor = new VehicleSearchCursor(VehicleSort.PRICE_DESC, new BigDecimal("25000"), UUID.randomUUID());
+
+        when(vehicleRepositoryPort.search(filter, VehicleSort.PRICE_DESC, cursor, 10)).thenReturn(new CursorPage<>(List.of(), null));
+
+        VehicleSearchResult result = useCase.execute(filter, VehicleSort.PRICE_DESC, cursor.encode(), 10, false);
+
+        assertTrue(result.items().isEmpty());
+        assertNull(result.nextCursor());
+        assertNull(result.facets());
+        verify(vehicleRepositoryPort, never()).getFacets(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should default to no filter and ascending price order")
+    void shouldDefaultToNoFilterAndAscendingPriceOrder() {
+        when(vehicleRepositoryPort.search(VehicleFilter.none(), VehicleSort.PRICE_ASC, null, 5)).thenReturn(new CursorPage<>(List.of(), null));
+
+        useCase.execute(null, null, null, 5, false);
+
+        verify(vehicleRepositoryPort).search(VehicleFilter.none(), VehicleSort.PRICE_ASC, null, 5);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidVehicleException when a range is inverted")
+    void shouldThrowInvalidVehicleExceptionWhenARangeIsInverted() {
+        VehicleFilter years = new VehicleFilter(null, null, 2024, 2020, null, null, null, null);
+        VehicleFilter prices = new VehicleFilter(null, null, null, null, new BigDecimal("50000"), new BigDecimal("10000"), null, null);
+
+        assertThrows(InvalidVehicleException.class, () -> useCase.execute(years, VehicleSort.PRICE_ASC, null, 10, true));
+        assertThrows(InvalidVehicleException.class, () -> useCase.execute(prices, VehicleSort.PRICE_ASC, null, 10, true));
+
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when page limit is out of range")
+    void shouldThrowIllegalArgumentExceptionWhenPageLimitIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(filter, VehicleSort.PRICE_ASC, null, 0, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(filter, VehicleSort.PRICE_ASC, null, GetVehicleByStatusUseCase.MAX_PAGE_SIZE + 1, true));
+
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor was issued for another sort")
+    void shouldThrowIllegalArgumentExceptionWhenCursorWasIssuedForAnotherSort() {
+        String cursor = new VehicleSearchCursor(VehicleSort.PRICE_ASC, new BigDecimal("25000"), UUID.randomUUID()).encode();
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> useCase.execute(filter, VehicleSort.YEAR_ASC, cursor, 10, true));
+
+        assertTrue(exception.getMessage().contains("PRICE_ASC"));
+        verifyNoInteractions(vehicleRepositoryPort);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleChangeCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip version and id through the encoded token")
+    void shouldRoundTripVersionAndIdThroughEncodedToken() {
+        VehicleChangeCursor cursor = new VehicleChangeCursor(9_000_000_001L, UUID.randomUUID());
+
+        assertEquals(cursor, VehicleChangeCursor.decode(cursor.encode()));
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should return null when token is blank")
+    void shouldReturnNullWhenTokenIsBlank() {
+        assertNull(VehicleChangeCursor.decode(null));
+        assertNull(VehicleChangeCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when token is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenTokenIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> VehicleChangeCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> VehicleChangeCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+}
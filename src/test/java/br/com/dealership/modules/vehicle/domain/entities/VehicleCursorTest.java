@@ -0,0 +1,44 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip price and id through the encoded token")
+    void shouldRoundTripPriceAndIdThroughEncodedToken() {
+        VehicleCursor cursor = new VehicleCursor(new BigDecimal("25000.50"), UUID.randomUUID());
+
+        VehicleCursor decoded = VehicleCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should produce URL-safe tokens")
+    void shouldProduceUrlSafeTokens() {
+        String token = new VehicleCursor(new BigDecimal("99999.99"), UUID.randomUUID()).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should return null when token is blank")
+    void shouldReturnNullWhenTokenIsBlank() {
+        assertNull(VehicleCursor.decode(null));
+        assertNull(VehicleCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when token is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenTokenIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> VehicleCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> VehicleCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.dealership.modules.vehicle.domain.entities;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehicleSearchCursorTest {
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should round-trip sort, value and id through the encoded token")
+    void shouldRoundTripSortValueAndIdThroughEncodedToken() {
+        VehicleSearchCursor cursor = new VehicleSearchCursor(VehicleSort.PRICE_DESC, new BigDecimal("25000.50"), UUID.randomUUID());
+
+        VehicleSearchCursor decoded = VehicleSearchCursor.decode(cursor.encode(), VehicleSort.PRICE_DESC);
+
+        assertEquals(cursor, decoded);
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should take the sort key from the vehicle")
+    void shouldTakeTheSortKeyFromTheVehicle() {
+        Vehicle vehicle = new Vehicle(UUID.randomUUID(), "Honda", "Civic", 2023, "VIN1", "Black", VehicleStatus.AVAILABLE, new BigDecimal("25000"));
+
+        assertEquals(new BigDecimal("25000"), VehicleSearchCursor.of(VehicleSort.PRICE_ASC, vehicle).value());
+        assertEquals(BigDecimal.valueOf(2023), VehicleSearchCursor.of(VehicleSort.YEAR_DESC, vehicle).value());
+        assertEquals(vehicle.getId(), VehicleSearchCursor.of(VehicleSort.YEAR_DESC, vehicle).id());
+    }
+
+    @Test
+    @DisplayName("Should return null when token is blank")
+    void shouldReturnNullWhenTokenIsBlank() {
+        assertNull(VehicleSearchCursor.decode(null, VehicleSort.PRICE_ASC));
+        assertNull(VehicleSearchCursor.decode(" ", VehicleSort.PRICE_ASC));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when token is malformed")
+    void shouldThrowIllegalArgumentExceptionWhenTokenIsMalformed() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> VehicleSearchCursor.decode("%%%", VehicleSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> VehicleSearchCursor.decode(token("PRICE_ASC:1000"), VehicleSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> VehicleSearchCursor.decode(token("NAME_ASC:1000:" + id), VehicleSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> VehicleSearchCursor.decode(token("YEAR_ASC:2023.5:" + id), VehicleSort.YEAR_ASC));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when cursor was issued for another sort")
+    void shouldThrowIllegalArgumentExceptionWhenCursorWasIssuedForAnotherSort() {
+        String token = new VehicleSearchCursor(VehicleSort.YEAR_ASC, BigDecimal.valueOf(2023), UUID.randomUUID()).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> VehicleSearchCursor.decode(token, VehicleSort.YEAR_DESC));
+    }
+}
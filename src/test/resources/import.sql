@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS vehicle_change_version_seq;